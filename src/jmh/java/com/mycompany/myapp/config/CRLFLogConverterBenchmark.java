@@ -0,0 +1,52 @@
+package com.mycompany.myapp.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link CRLFLogConverter#transform}, which runs on every log line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CRLFLogConverterBenchmark {
+
+    @Param({ "clean", "crlf", "safe-logger" })
+    private String message;
+
+    private final CRLFLogConverter converter = new CRLFLogConverter();
+
+    private LoggingEvent event;
+
+    private String in;
+
+    @Setup
+    public void setup() {
+        event = new LoggingEvent();
+        event.setLevel(Level.DEBUG);
+        event.setLoggerName("safe-logger".equals(message) ? "org.hibernate.SQL" : "com.mycompany.myapp.service.RentalService");
+        in = "crlf".equals(message)
+            ? "Request to save Rental : Rental{id=1,\r\n startDate='2024-01-01',\tdueDate='2024-01-03'}"
+            : "Request to save Rental : Rental{id=1, startDate='2024-01-01', dueDate='2024-01-03'}";
+    }
+
+    @Benchmark
+    public String transform() {
+        return converter.transform(event, in);
+    }
+}
@@ -0,0 +1,117 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Benchmark of the throughput of blocking requests, by execution mode.
+ * <p>
+ * Each invocation submits {@value #REQUESTS} requests at once. A request holds a JDBC connection of a Hikari pool of
+ * {@value #POOL_SIZE} for a query and {@value #JDBC_MILLIS}ms, then waits {@value #IO_MILLIS}ms without it, for the
+ * SMTP or HTTP calls. The {@code platform} mode runs them on a pool sized like the Undertow workers, the
+ * {@code virtual} mode on a virtual thread each, through a {@link ConnectionLimitingDataSource} as in
+ * {@link VirtualThreadsConfiguration}. Needs the H2 driver of the {@code dev} profile.
+ * <p>
+ * The {@code virtual} mode needs JDK 21+: {@code ./gradlew jmh} only runs the {@code platform} mode on older JDKs,
+ * otherwise run it with {@code -p mode=platform}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int REQUESTS = 2000;
+
+    private static final int POOL_SIZE = 10;
+
+    private static final long JDBC_MILLIS = 2;
+
+    private static final long IO_MILLIS = 20;
+
+    @Param({ "platform", "virtual" })
+    private String mode;
+
+    private HikariDataSource hikariDataSource;
+
+    private DataSource dataSource;
+
+    private AsyncTaskExecutor executor;
+
+    @Setup
+    public void setup() {
+        if ("virtual".equals(mode) && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("The virtual mode needs JDK 21+, run with -p mode=platform on JDK " + Runtime.version());
+        }
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:execution-mode;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        hikariDataSource = new HikariDataSource(config);
+        if ("virtual".equals(mode)) {
+            dataSource = new ConnectionLimitingDataSource(hikariDataSource, POOL_SIZE, Duration.ofMillis(config.getConnectionTimeout()));
+            executor = new VirtualThreadTaskExecutor("benchmark-");
+        } else {
+            // Undertow defaults to 8 worker threads per I/O thread, itself one per available processor
+            int workers = Runtime.getRuntime().availableProcessors() * 8;
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(workers);
+            pool.setMaxPoolSize(workers);
+            pool.setThreadNamePrefix("benchmark-");
+            pool.initialize();
+            dataSource = hikariDataSource;
+            executor = pool;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+        hikariDataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void requests() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            futures[i] = executor.submitCompletable(this::request);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private Void request() throws SQLException, InterruptedException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("select 1");
+            Thread.sleep(JDBC_MILLIS);
+        }
+        Thread.sleep(IO_MILLIS);
+        return null;
+    }
+}
@@ -0,0 +1,133 @@
+package com.mycompany.myapp.domain;
+
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Rental} and {@link Maintenance} inserts against an in-memory H2 database, by number of ids
+ * reserved per {@code sequence_generator} call.
+ * <p>
+ * Each invocation inserts {@value #INSERTS_PER_TRANSACTION} entities in one transaction. The JDBC statements prepared
+ * per insert, sequence calls included, are printed at the end of each trial. Needs the H2 driver of the {@code dev} profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdAllocationBenchmark {
+
+    private static final int INSERTS_PER_TRANSACTION = 100;
+
+    @Param({ "1", "50", "500" })
+    private int allocationSize;
+
+    @Param({ "rental", "maintenance" })
+    private String entity;
+
+    private SessionFactory sessionFactory;
+
+    private Customer customer;
+
+    private Motorbike motorbike;
+
+    private LocalDate day = LocalDate.of(2024, 1, 1);
+
+    @Setup
+    public void setup() throws SQLException {
+        String url = "jdbc:h2:mem:ids-" + entity + "-" + allocationSize + ";DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url, "sa", ""); Statement statement = connection.createStatement()) {
+            statement.execute("create sequence sequence_generator start with 1050 increment by " + allocationSize);
+        }
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Customer.class)
+            .addAnnotatedClass(Motorbike.class)
+            .addAnnotatedClass(Rental.class)
+            .addAnnotatedClass(Maintenance.class)
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .setProperty(AvailableSettings.URL, url)
+            .setProperty(AvailableSettings.USER, "sa")
+            .setProperty(AvailableSettings.PASS, "")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "update")
+            .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "25")
+            .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+            .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled")
+            .setProperty(AvailableSettings.SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY, "fix")
+            .buildSessionFactory();
+
+        customer = new Customer().firstName("John").lastName("Doe").email("john@localhost").password("password");
+        motorbike = new Motorbike().make("Make").model("Model").status(BikeStatus.AVAILABLE);
+        inTransaction(session -> {
+            session.persist(customer);
+            session.persist(motorbike);
+        });
+        sessionFactory.getStatistics().clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        long inserts = sessionFactory.getStatistics().getEntityInsertCount();
+        long statements = sessionFactory.getStatistics().getPrepareStatementCount();
+        System.out.printf(
+            "%n%s, %d ids per sequence call: %.3f JDBC statements per insert%n",
+            entity,
+            allocationSize,
+            (double) statements / inserts
+        );
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERTS_PER_TRANSACTION)
+    public void insert() {
+        LocalDate startDate = day;
+        day = day.plusDays(1);
+        inTransaction(session -> {
+            for (int i = 0; i < INSERTS_PER_TRANSACTION; i++) {
+                if ("rental".equals(entity)) {
+                    session.persist(
+                        new Rental().startDate(startDate).dueDate(startDate.plusDays(2)).customer(customer).motorbike(motorbike)
+                    );
+                } else {
+                    session.persist(new Maintenance().description("Service").startDate(startDate).motorbike(motorbike));
+                }
+            }
+        });
+    }
+
+    private void inTransaction(Consumer<Session> work) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            work.accept(session);
+            transaction.commit();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.JacksonConfiguration;
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmark of the Jackson serialization of a {@link Motorbike} with its {@code rentals} and {@code maintenances},
+ * as returned by the {@code FULL} fetch view.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MotorbikeSerializationBenchmark {
+
+    @Param({ "0", "10", "200" })
+    private int rentals;
+
+    private ObjectMapper objectMapper;
+
+    private Motorbike motorbike;
+
+    @Setup
+    public void setup() {
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modules(jacksonConfiguration.javaTimeModule(), jacksonConfiguration.jdk8TimeModule(), jacksonConfiguration.hibernate6Module())
+            .build();
+
+        motorbike = new Motorbike().id(1L).make("Make").model("Model").status(BikeStatus.AVAILABLE);
+        Customer customer = new Customer().id(1L).firstName("John").lastName("Doe").email("john@localhost").password("password");
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < rentals; i++) {
+            LocalDate startDate = day.plusDays(3L * i);
+            motorbike.addRental(
+                new Rental()
+                    .id((long) i)
+                    .startDate(startDate)
+                    .dueDate(startDate.plusDays(2))
+                    .returnDate(startDate.plusDays(2))
+                    .customer(customer)
+            );
+        }
+        for (int i = 0; i < rentals / 10; i++) {
+            motorbike.addMaintenance(
+                new Maintenance().id((long) i).startDate(day.plusDays(30L * i)).endDate(day.plusDays(30L * i + 1)).description("Service")
+            );
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(motorbike);
+    }
+}
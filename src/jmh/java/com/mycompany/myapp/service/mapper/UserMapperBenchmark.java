@@ -0,0 +1,63 @@
+package com.mycompany.myapp.service.mapper;
+
+import com.mycompany.myapp.domain.Authority;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.dto.UserDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link UserMapper#usersToUserDTOs(List)}, for a page and for a large export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    @Param({ "20", "2000" })
+    private int size;
+
+    private final UserMapper userMapper = new UserMapper();
+
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        Authority userAuthority = new Authority().name(AuthoritiesConstants.USER);
+        users = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            User u = new User();
+            u.setId(i);
+            u.setLogin("user-" + i);
+            u.setEmail("user-" + i + "@localhost");
+            u.setFirstName("First " + i);
+            u.setLastName("Last " + i);
+            u.setActivated(true);
+            u.setLangKey("en");
+            u.setAuthorities(Set.of(userAuthority));
+            users.add(u);
+        }
+    }
+
+    @Benchmark
+    public List<UserDTO> usersToUserDTOs() {
+        return userMapper.usersToUserDTOs(users);
+    }
+}
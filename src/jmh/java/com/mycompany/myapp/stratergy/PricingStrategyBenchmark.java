@@ -0,0 +1,67 @@
+package com.mycompany.myapp.stratergy;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Rental;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link PricingStrategy1#calculatePrice(Rental)}, over rentals of 1 to 30 days.
+ * <p>
+ * The calendar strategy runs with the default rules, and a table already compiled for the years of the rentals.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingStrategyBenchmark {
+
+    private static final int RENTALS = 1024;
+
+    @Param({ "standard", "weekend", "calendar" })
+    private String strategy;
+
+    private PricingStrategy1 pricingStrategy;
+
+    private Rental[] rentals;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        pricingStrategy = switch (strategy) {
+            case "standard" -> new StandardPricingStrategy();
+            case "weekend" -> new WeekendPricingStrategy();
+            default -> new CalendarPricingStrategy(new ApplicationProperties());
+        };
+        Random random = new Random(42);
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        rentals = new Rental[RENTALS];
+        for (int i = 0; i < RENTALS; i++) {
+            LocalDate startDate = day.plusDays(random.nextInt(365));
+            rentals[i] = new Rental().startDate(startDate).dueDate(startDate.plusDays(1 + random.nextInt(30)));
+            pricingStrategy.calculatePrice(rentals[i]);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculatePrice() {
+        next = (next + 1) & (RENTALS - 1);
+        return pricingStrategy.calculatePrice(rentals[next]);
+    }
+}
@@ -0,0 +1,80 @@
+package com.mycompany.myapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Thin JSON client of the application, shared by the virtual users.
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final String baseUrl;
+
+    private volatile String token;
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * Authenticate, and use the returned token for the following requests.
+     *
+     * @return the status of the {@code /api/authenticate} response.
+     */
+    public int authenticate(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = post(
+            "/api/authenticate",
+            objectMapper.createObjectNode().put("username", username).put("password", password).put("rememberMe", false)
+        );
+        if (response.statusCode() == 200) {
+            token = objectMapper.readTree(response.body()).path("id_token").asText();
+        }
+        return response.statusCode();
+    }
+
+    public HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return send(request(path).GET().build());
+    }
+
+    public HttpResponse<String> post(String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+            ? HttpRequest.BodyPublishers.noBody()
+            : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        return send(request(path).header("Content-Type", "application/json").POST(publisher).build());
+    }
+
+    public JsonNode readTree(String body) throws IOException {
+        return objectMapper.readTree(body);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json");
+        String currentToken = token;
+        if (currentToken != null) {
+            builder.header("Authorization", "Bearer " + currentToken);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,105 @@
+package com.mycompany.myapp.loadtest;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Create the customers and motorbikes of the Liquibase {@code fake-data} CSVs through the API, {@code scale} times each.
+ * <p>
+ * Copies are made unique with a prefix, so that a database can be seeded by several runs.
+ */
+public class DataSeeder {
+
+    private static final String FAKE_DATA = "config/liquibase/fake-data/";
+
+    private final ApiClient client;
+
+    private final int scale;
+
+    private final String runId;
+
+    public DataSeeder(ApiClient client, int scale, String runId) {
+        this.client = client;
+        this.scale = scale;
+        this.runId = runId;
+    }
+
+    public SeedData seed() throws IOException, InterruptedException {
+        List<Map<String, String>> customerRows = readCsv("customer.csv");
+        List<Map<String, String>> motorbikeRows = readCsv("motorbike.csv");
+        List<Long> customerIds = new ArrayList<>();
+        List<Long> motorbikeIds = new ArrayList<>();
+        for (int copy = 0; copy < scale; copy++) {
+            String prefix = "lt-" + runId + "-" + copy + ".";
+            for (Map<String, String> row : customerRows) {
+                ObjectNode customer = client
+                    .getObjectMapper()
+                    .createObjectNode()
+                    .put("firstName", row.get("first_name"))
+                    .put("lastName", row.get("last_name"))
+                    .put("email", prefix + row.get("email"))
+                    .put("password", row.get("password"));
+                customerIds.add(create("/api/customers", customer));
+            }
+            for (Map<String, String> row : motorbikeRows) {
+                ObjectNode motorbike = client
+                    .getObjectMapper()
+                    .createObjectNode()
+                    .put("make", row.get("make"))
+                    .put("model", prefix + row.get("model"))
+                    .put("status", "AVAILABLE");
+                motorbikeIds.add(create("/api/motorbikes", motorbike));
+            }
+        }
+        return new SeedData(List.copyOf(customerIds), List.copyOf(motorbikeIds));
+    }
+
+    private long create(String path, ObjectNode entity) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.post(path, entity);
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return client.readTree(response.body()).path("id").asLong();
+    }
+
+    static List<Map<String, String>> readCsv(String name) {
+        InputStream in = DataSeeder.class.getClassLoader().getResourceAsStream(FAKE_DATA + name);
+        if (in == null) {
+            throw new IllegalStateException("Missing " + FAKE_DATA + name + " on the classpath");
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String[] header = reader.readLine().split(";");
+            List<Map<String, String>> rows = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] values = line.split(";", -1);
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < header.length && i < values.length; i++) {
+                    row.put(header[i], values[i]);
+                }
+                rows.add(row);
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ids of the seeded entities.
+     */
+    public record SeedData(List<Long> customerIds, List<Long> motorbikeIds) {}
+}
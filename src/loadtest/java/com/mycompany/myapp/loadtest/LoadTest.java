@@ -0,0 +1,83 @@
+package com.mycompany.myapp.loadtest;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load test of the rental API, run by the {@code loadTest} Gradle task against an already started application.
+ * <p>
+ * The run seeds its own customers and motorbikes, authenticates, then lets {@link LoadTestSettings#users()} virtual users
+ * send the configured mix of requests. Only the requests sent after the warmup are recorded. The process exits with
+ * status 1 when the error rate or the 99th percentile latency exceed their thresholds, so that it can gate a build.
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ApiClient client = new ApiClient(settings.baseUrl());
+
+        int status = client.authenticate(settings.username(), settings.password());
+        if (status != 200) {
+            throw new IllegalStateException("Authentication as " + settings.username() + " failed with " + status);
+        }
+
+        String runId = Long.toString(settings.seed(), 36) + "-" + Long.toString(System.currentTimeMillis(), 36);
+        DataSeeder.SeedData seedData = new DataSeeder(client, settings.scale(), runId).seed();
+        System.out.printf(
+            "Seeded %d customers and %d motorbikes, running %d users for %s after a %s warmup%n",
+            seedData.customerIds().size(),
+            seedData.motorbikeIds().size(),
+            settings.users(),
+            settings.duration(),
+            settings.warmup()
+        );
+
+        LocalDate firstDay = LocalDate.now().plusDays(30);
+        long recordFrom = System.nanoTime() + settings.warmup().toNanos();
+        long stopAt = recordFrom + settings.duration().toNanos();
+        Instant startedAt = Instant.now().plus(settings.warmup());
+
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+        try {
+            List<Future<Map<Operation, OperationStats>>> futures = new ArrayList<>();
+            for (int i = 0; i < settings.users(); i++) {
+                futures.add(executor.submit(new VirtualUser(i, client, settings, seedData, firstDay, recordFrom, stopAt)));
+            }
+            for (Future<Map<Operation, OperationStats>> future : futures) {
+                future
+                    .get()
+                    .forEach((operation, userStats) -> stats.computeIfAbsent(operation, o -> new OperationStats()).merge(userStats));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LoadTestReport report = LoadTestReport.of(startedAt, settings, stats);
+        report.print(System.out);
+        Path file = report.write(settings.reportDirectory(), client.getObjectMapper());
+        System.out.println("Report written to " + file);
+
+        LoadTestReport.Result overall = report.overall();
+        double errorRate = overall.requests() == 0 ? 1 : (double) overall.errors() / overall.requests();
+        boolean failed = errorRate > settings.maxErrorRate();
+        if (failed) {
+            System.out.printf("Error rate %.2f%% exceeds %.2f%%%n", errorRate * 100, settings.maxErrorRate() * 100);
+        }
+        if (!settings.maxP99().isZero() && overall.p99Millis() > settings.maxP99().toMillis()) {
+            System.out.printf("p99 latency %.2f ms exceeds %d ms%n", overall.p99Millis(), settings.maxP99().toMillis());
+            failed = true;
+        }
+        System.exit(failed ? 1 : 0);
+    }
+}
@@ -0,0 +1,131 @@
+package com.mycompany.myapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles of a run, per operation and overall.
+ *
+ * @param startedAt when the recorded part of the run started.
+ * @param settings the settings of the run.
+ * @param operations the results per operation, then the overall results under {@code all}.
+ */
+public record LoadTestReport(Instant startedAt, Map<String, Object> settings, List<Result> operations) {
+    /**
+     * Results of one operation.
+     *
+     * @param operation the operation key, or {@code all}.
+     * @param requests the number of recorded requests.
+     * @param errors the number of failed requests.
+     * @param throughput the requests per second.
+     * @param p50Millis the median latency.
+     * @param p90Millis the 90th percentile latency.
+     * @param p99Millis the 99th percentile latency.
+     * @param maxMillis the highest latency.
+     * @param statuses the number of responses per HTTP status, {@code 0} counting the requests that got no response.
+     */
+    public record Result(
+        String operation,
+        long requests,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p90Millis,
+        double p99Millis,
+        double maxMillis,
+        Map<Integer, Long> statuses
+    ) {
+        static Result of(String operation, OperationStats stats, Duration duration) {
+            long[] latencies = stats.sortedLatencies();
+            return new Result(
+                operation,
+                stats.getCount(),
+                stats.getErrors(),
+                stats.getCount() / (duration.toNanos() / 1e9),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.90),
+                percentile(latencies, 0.99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6,
+                stats.getStatuses()
+            );
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, rank)] / 1e6;
+        }
+    }
+
+    public static LoadTestReport of(Instant startedAt, LoadTestSettings settings, Map<Operation, OperationStats> stats) {
+        Map<String, Object> settingsSummary = new LinkedHashMap<>();
+        settingsSummary.put("baseUrl", settings.baseUrl());
+        settingsSummary.put("users", settings.users());
+        settingsSummary.put("duration", settings.duration().toString());
+        settingsSummary.put("thinkTime", settings.thinkTime().toString());
+        settingsSummary.put("seed", settings.seed());
+        settingsSummary.put("scale", settings.scale());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        settings.mix().forEach((operation, weight) -> mix.put(operation.getKey(), weight));
+        settingsSummary.put("mix", mix);
+
+        List<Result> results = new ArrayList<>();
+        OperationStats all = new OperationStats();
+        stats.forEach((operation, operationStats) -> {
+            results.add(Result.of(operation.getKey(), operationStats, settings.duration()));
+            all.merge(operationStats);
+        });
+        results.add(Result.of("all", all, settings.duration()));
+        return new LoadTestReport(startedAt, settingsSummary, results);
+    }
+
+    public Result overall() {
+        return operations.get(operations.size() - 1);
+    }
+
+    public void print(PrintStream out) {
+        out.printf(
+            "%-14s %10s %8s %10s %10s %10s %10s %10s%n",
+            "operation",
+            "requests",
+            "errors",
+            "req/s",
+            "p50 ms",
+            "p90 ms",
+            "p99 ms",
+            "max ms"
+        );
+        for (Result result : operations) {
+            out.printf(
+                "%-14s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                result.operation(),
+                result.requests(),
+                result.errors(),
+                result.throughput(),
+                result.p50Millis(),
+                result.p90Millis(),
+                result.p99Millis(),
+                result.maxMillis()
+            );
+        }
+    }
+
+    public Path write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("results-" + startedAt.getEpochSecond() + ".json");
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+        return file;
+    }
+}
@@ -0,0 +1,85 @@
+package com.mycompany.myapp.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from the {@code loadtest.*} system properties.
+ *
+ * @param baseUrl the URL of the running application.
+ * @param username the login used for {@code /api/authenticate}.
+ * @param password the password used for {@code /api/authenticate}.
+ * @param users the number of concurrent virtual users.
+ * @param warmup the time during which requests are sent but not recorded.
+ * @param duration the recorded time.
+ * @param thinkTime the pause of a virtual user between two requests.
+ * @param seed the seed of the workload, two runs with the same seed send the same requests.
+ * @param scale the number of copies of each {@code fake-data} row to create.
+ * @param mix the relative weight of each operation.
+ * @param maxErrorRate the error rate above which the run fails.
+ * @param maxP99 the 99th percentile latency above which the run fails, ignored when zero.
+ * @param reportDirectory where to write the JSON report.
+ */
+public record LoadTestSettings(
+    String baseUrl,
+    String username,
+    String password,
+    int users,
+    Duration warmup,
+    Duration duration,
+    Duration thinkTime,
+    long seed,
+    int scale,
+    Map<Operation, Integer> mix,
+    double maxErrorRate,
+    Duration maxP99,
+    Path reportDirectory
+) {
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            property("baseUrl", "http://localhost:8080"),
+            property("username", "admin"),
+            property("password", "admin"),
+            Integer.parseInt(property("users", "20")),
+            Duration.parse(property("warmup", "PT10S")),
+            Duration.parse(property("duration", "PT1M")),
+            Duration.parse(property("thinkTime", "PT0S")),
+            Long.parseLong(property("seed", "42")),
+            Integer.parseInt(property("scale", "1")),
+            parseMix(property("mix", "motorbikes:5,rentals:2,price:2,authenticate:1")),
+            Double.parseDouble(property("maxErrorRate", "0.01")),
+            Duration.parse(property("maxP99", "PT0S")),
+            Path.of(property("reportDirectory", "build/reports/loadtest"))
+        );
+    }
+
+    /**
+     * Parse a mix such as {@code motorbikes:5,rentals:2}, operations left out are not sent.
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry, expected <operation>:<weight>: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight: " + entry);
+            }
+            mix.put(Operation.fromKey(parts[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("The mix must contain at least one operation: " + value);
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
@@ -0,0 +1,45 @@
+package com.mycompany.myapp.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The requests making up the workload.
+ */
+public enum Operation {
+    /**
+     * {@code GET /api/v1/motorbikes}, on a random page.
+     */
+    MOTORBIKES("motorbikes"),
+
+    /**
+     * {@code POST /api/v1/rentals}, for a random customer, motorbike and period. Overlapping periods are answered with a 409.
+     */
+    RENTALS("rentals"),
+
+    /**
+     * {@code POST /api/v1/rentals/price}, with a random period and pricing strategy.
+     */
+    PRICE("price"),
+
+    /**
+     * {@code POST /api/authenticate}.
+     */
+    AUTHENTICATE("authenticate");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        return Arrays.stream(values())
+            .filter(operation -> operation.key.equals(key))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + key));
+    }
+}
@@ -0,0 +1,65 @@
+package com.mycompany.myapp.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and outcomes of one operation, recorded by a single virtual user then merged.
+ */
+public class OperationStats {
+
+    private long[] latencies = new long[1024];
+
+    private int count;
+
+    private long errors;
+
+    private final Map<Integer, Long> statuses = new TreeMap<>();
+
+    public void record(long latencyNanos, int status, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        statuses.merge(status, 1L, Long::sum);
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public void recordFailure(long latencyNanos) {
+        record(latencyNanos, 0, false);
+    }
+
+    public void merge(OperationStats other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        other.statuses.forEach((status, n) -> statuses.merge(status, n, Long::sum));
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public Map<Integer, Long> getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * Get the latencies, sorted.
+     */
+    public long[] sortedLatencies() {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
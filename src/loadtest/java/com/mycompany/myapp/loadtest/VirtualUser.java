@@ -0,0 +1,155 @@
+package com.mycompany.myapp.loadtest;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+/**
+ * Sends requests in a loop, picking each operation at random according to the mix.
+ * <p>
+ * Each user has its own {@link Random}, seeded from the run seed and its index, so the sequence of requests it sends
+ * only depends on the settings.
+ */
+public class VirtualUser implements Callable<Map<Operation, OperationStats>> {
+
+    private static final String[] PRICING_STRATEGIES = { "standardPricing", "weekendPricing" };
+
+    private static final int MOTORBIKE_PAGE_SIZE = 20;
+
+    private final ApiClient client;
+
+    private final LoadTestSettings settings;
+
+    private final DataSeeder.SeedData seedData;
+
+    private final Random random;
+
+    private final Operation[] operations;
+
+    private final int[] cumulativeWeights;
+
+    private final LocalDate firstDay;
+
+    private final long recordFrom;
+
+    private final long stopAt;
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    public VirtualUser(
+        int index,
+        ApiClient client,
+        LoadTestSettings settings,
+        DataSeeder.SeedData seedData,
+        LocalDate firstDay,
+        long recordFrom,
+        long stopAt
+    ) {
+        this.client = client;
+        this.settings = settings;
+        this.seedData = seedData;
+        this.random = new Random(settings.seed() * 31 + index);
+        this.firstDay = firstDay;
+        this.recordFrom = recordFrom;
+        this.stopAt = stopAt;
+        List<Map.Entry<Operation, Integer>> weights = settings.mix().entrySet().stream().filter(e -> e.getValue() > 0).toList();
+        this.operations = new Operation[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            operations[i] = weights.get(i).getKey();
+            total += weights.get(i).getValue();
+            cumulativeWeights[i] = total;
+        }
+        for (Operation operation : operations) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    @Override
+    public Map<Operation, OperationStats> call() throws InterruptedException {
+        while (System.nanoTime() < stopAt) {
+            Operation operation = nextOperation();
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = execute(operation);
+            } catch (IOException e) {
+                status = -1;
+            }
+            long end = System.nanoTime();
+            if (start >= recordFrom) {
+                if (status < 0) {
+                    stats.get(operation).recordFailure(end - start);
+                } else {
+                    stats.get(operation).record(end - start, status, isSuccess(operation, status));
+                }
+            }
+            if (!settings.thinkTime().isZero()) {
+                Thread.sleep(settings.thinkTime().toMillis());
+            }
+        }
+        return stats;
+    }
+
+    private Operation nextOperation() {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (draw >= cumulativeWeights[i]) {
+            i++;
+        }
+        return operations[i];
+    }
+
+    private int execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case MOTORBIKES -> {
+                int pages = Math.max(1, seedData.motorbikeIds().size() / MOTORBIKE_PAGE_SIZE);
+                yield client.get("/api/v1/motorbikes?page=" + random.nextInt(pages) + "&size=" + MOTORBIKE_PAGE_SIZE).statusCode();
+            }
+            case RENTALS -> {
+                LocalDate startDate = firstDay.plusDays(random.nextInt(365));
+                HttpResponse<String> response = client.post(
+                    "/api/v1/rentals?customerId=" +
+                    pick(seedData.customerIds()) +
+                    "&motorbikeId=" +
+                    pick(seedData.motorbikeIds()) +
+                    "&startDate=" +
+                    startDate +
+                    "&dueDate=" +
+                    startDate.plusDays(1 + random.nextInt(7)),
+                    null
+                );
+                yield response.statusCode();
+            }
+            case PRICE -> {
+                LocalDate startDate = firstDay.plusDays(random.nextInt(365));
+                ObjectNode rental = client
+                    .getObjectMapper()
+                    .createObjectNode()
+                    .put("startDate", startDate.toString())
+                    .put("dueDate", startDate.plusDays(1 + random.nextInt(14)).toString());
+                String strategy = PRICING_STRATEGIES[random.nextInt(PRICING_STRATEGIES.length)];
+                yield client.post("/api/v1/rentals/price?strategy=" + strategy, rental).statusCode();
+            }
+            case AUTHENTICATE -> client.authenticate(settings.username(), settings.password());
+        };
+    }
+
+    private Long pick(List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    /**
+     * Overlapping rentals are part of the workload: the 409 answering them is not an error.
+     */
+    private static boolean isSuccess(Operation operation, int status) {
+        return (status >= 200 && status < 300) || (operation == Operation.RENTALS && status == 409);
+    }
+}
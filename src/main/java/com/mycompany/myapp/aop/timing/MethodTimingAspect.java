@@ -0,0 +1,197 @@
+package com.mycompany.myapp.aop.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * Aspect timing the execution of service and repository Spring components, safe to run in production.
+ * <p>
+ * Every call is timed, but only a sample of them, {@link MethodTimingSettings#getSampleRate() sampleRate}, is recorded
+ * in the {@value #TIMER_NAME} timer of its method: its count is a share of the calls. Calls slower than the threshold of
+ * their method are all logged, with the types of their arguments. The other calls only cost two clock reads and a map
+ * lookup: the timers and thresholds are resolved once per method, and the arguments are only formatted when a slow call
+ * is logged.
+ * <p>
+ * The values of the arguments are only logged with {@code application.method-timing.log-arguments}, for debugging
+ * outside production. Even then, the arguments marked {@link Sensitive}, or of a class marked {@link Sensitive}, are
+ * masked.
+ */
+@Aspect
+public class MethodTimingAspect {
+
+    public static final String TIMER_NAME = "app.method.execution";
+
+    private static final String MASK = "******";
+
+    private final Logger log = LoggerFactory.getLogger(MethodTimingAspect.class);
+
+    private final MeterRegistry registry;
+
+    private final MethodTimingSettings settings;
+
+    private final boolean logArguments;
+
+    private final int maxArgumentLength;
+
+    private final Map<Method, TimedMethod> methods = new ConcurrentHashMap<>();
+
+    public MethodTimingAspect(MeterRegistry registry, MethodTimingSettings settings, boolean logArguments, int maxArgumentLength) {
+        this.registry = registry;
+        this.settings = settings;
+        this.logArguments = logArguments;
+        this.maxArgumentLength = maxArgumentLength;
+    }
+
+    /**
+     * Pointcut that matches all repositories and services.
+     */
+    @Pointcut("within(@org.springframework.stereotype.Repository *) || within(@org.springframework.stereotype.Service *)")
+    public void springBeanPointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Pointcut that matches all Spring beans in the application's service and repository packages.
+     */
+    @Pointcut("within(com.mycompany.myapp.repository..*) || within(com.mycompany.myapp.service..*)")
+    public void applicationPackagePointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Advice that times a method, and logs it when slow.
+     *
+     * @param joinPoint join point for advice.
+     * @return result.
+     * @throws Throwable the exception of the method.
+     */
+    @Around("applicationPackagePointcut() && springBeanPointcut()")
+    public Object timeAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long duration = System.nanoTime() - start;
+            TimedMethod method = method(joinPoint);
+            double sampleRate = settings.getSampleRate();
+            if (sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+                method.timer.record(duration, TimeUnit.NANOSECONDS);
+            }
+            if (duration > method.slowThresholdNanos(settings)) {
+                if (logArguments) {
+                    log.warn(
+                        "Slow call: {}.{}() took {}ms with argument[s] = {}",
+                        method.className,
+                        method.methodName,
+                        TimeUnit.NANOSECONDS.toMillis(duration),
+                        new ArgumentsFormatter(joinPoint.getArgs(), method.sensitiveArguments, maxArgumentLength)
+                    );
+                } else {
+                    log.warn(
+                        "Slow call: {}.{}() took {}ms with argument types = {}",
+                        method.className,
+                        method.methodName,
+                        TimeUnit.NANOSECONDS.toMillis(duration),
+                        method.argumentTypes
+                    );
+                }
+            }
+        }
+    }
+
+    private TimedMethod method(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        TimedMethod method = methods.get(signature.getMethod());
+        if (method == null) {
+            method = methods.computeIfAbsent(signature.getMethod(), m -> new TimedMethod(m, registry));
+        }
+        return method;
+    }
+
+    /**
+     * Timer and threshold of a method, the threshold being resolved again when the settings change.
+     */
+    private static final class TimedMethod {
+
+        private final String className;
+
+        private final String methodName;
+
+        private final String argumentTypes;
+
+        private final boolean[] sensitiveArguments;
+
+        private final Timer timer;
+
+        private volatile long settingsVersion = -1;
+
+        private volatile long slowThresholdNanos;
+
+        private TimedMethod(Method method, MeterRegistry registry) {
+            this.className = method.getDeclaringClass().getSimpleName();
+            this.methodName = method.getName();
+            this.argumentTypes = Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName).toList().toString();
+            boolean sensitiveClass = AnnotatedElementUtils.hasAnnotation(method.getDeclaringClass(), Sensitive.class);
+            Parameter[] parameters = method.getParameters();
+            this.sensitiveArguments = new boolean[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                sensitiveArguments[i] = sensitiveClass || parameters[i].isAnnotationPresent(Sensitive.class);
+            }
+            this.timer = Timer.builder(TIMER_NAME)
+                .description("Sampled execution time of the service and repository methods")
+                .tag("class", className)
+                .tag("method", methodName)
+                .register(registry);
+        }
+
+        private long slowThresholdNanos(MethodTimingSettings settings) {
+            long version = settings.version();
+            if (version != settingsVersion) {
+                slowThresholdNanos = settings.slowThreshold(className, methodName).toNanos();
+                settingsVersion = version;
+            }
+            return slowThresholdNanos;
+        }
+    }
+
+    /**
+     * Arguments of a call, only formatted when logged, each truncated to a maximum length, the sensitive ones masked.
+     */
+    private record ArgumentsFormatter(Object[] args, boolean[] sensitive, int maxLength) {
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("[");
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                if (i >= sensitive.length || sensitive[i]) {
+                    builder.append(MASK);
+                    continue;
+                }
+                String arg = String.valueOf(args[i]);
+                if (arg.length() > maxLength) {
+                    builder.append(arg, 0, maxLength).append("...");
+                } else {
+                    builder.append(arg);
+                }
+            }
+            return builder.append(']').toString();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.mycompany.myapp.aop.timing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Settings of the {@link MethodTimingAspect}, which can be changed while the application runs.
+ * <p>
+ * Slow call thresholds can be overridden for a class, by its simple name such as {@code MotorbikeService}, or for a
+ * method, such as {@code MotorbikeService.findOne}. Every change bumps a version, from which the aspect knows when to
+ * resolve the thresholds of its methods again.
+ */
+public class MethodTimingSettings {
+
+    private volatile double sampleRate;
+
+    private volatile Duration slowThreshold;
+
+    private final Map<String, Duration> slowThresholds = new ConcurrentHashMap<>();
+
+    private volatile long version;
+
+    public MethodTimingSettings(double sampleRate, Duration slowThreshold, Map<String, Duration> slowThresholds) {
+        setSampleRate(sampleRate);
+        setSlowThreshold(slowThreshold);
+        this.slowThresholds.putAll(slowThresholds);
+    }
+
+    /**
+     * @return the share of the calls recorded by the timers, between 0 and 1.
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("The sample rate must be between 0 and 1: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return the duration above which a call is logged, unless overridden for its class or method.
+     */
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public synchronized void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+        version++;
+    }
+
+    public Map<String, Duration> getSlowThresholds() {
+        return Map.copyOf(slowThresholds);
+    }
+
+    /**
+     * @param target a simple class name, or a simple class name and a method name separated by a dot.
+     * @param slowThreshold the threshold of the target, or {@code null} to remove its override.
+     */
+    public synchronized void setSlowThreshold(String target, Duration slowThreshold) {
+        if (slowThreshold == null) {
+            slowThresholds.remove(target);
+        } else {
+            slowThresholds.put(target, slowThreshold);
+        }
+        version++;
+    }
+
+    /**
+     * Resolve the threshold of a method: its own override, else the one of its class, else the default one.
+     */
+    Duration slowThreshold(String className, String methodName) {
+        Duration threshold = slowThresholds.get(className + "." + methodName);
+        if (threshold == null) {
+            threshold = slowThresholds.getOrDefault(className, slowThreshold);
+        }
+        return threshold;
+    }
+
+    long version() {
+        return version;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mycompany.myapp.aop.timing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an argument, or all the arguments of the methods of a class, that the {@link MethodTimingAspect} must never
+ * log, such as passwords, reset keys, or entities holding them.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.PARAMETER, ElementType.TYPE })
+public @interface Sensitive {
+}
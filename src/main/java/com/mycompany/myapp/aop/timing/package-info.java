@@ -0,0 +1,4 @@
+/**
+ * Sampling timing aspect.
+ */
+package com.mycompany.myapp.aop.timing;
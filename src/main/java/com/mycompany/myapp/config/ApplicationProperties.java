@@ -1,5 +1,13 @@
 package com.mycompany.myapp.config;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +21,66 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Cache cache = new Cache();
+
+    private final JwtCache jwtCache = new JwtCache();
+
+    private final PasswordHashing passwordHashing = new PasswordHashing();
+
+    private final Pricing pricing = new Pricing();
+
+    private final MotorbikeImport motorbikeImport = new MotorbikeImport();
+
+    private final MailOutbox mailOutbox = new MailOutbox();
+
+    private final MailTemplates mailTemplates = new MailTemplates();
+
+    private final MethodTiming methodTiming = new MethodTiming();
+
+    private final JpaStatistics jpaStatistics = new JpaStatistics();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Cache getCache() {
+        return cache;
+    }
+
+    public JwtCache getJwtCache() {
+        return jwtCache;
+    }
+
+    public PasswordHashing getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public Pricing getPricing() {
+        return pricing;
+    }
+
+    public MotorbikeImport getMotorbikeImport() {
+        return motorbikeImport;
+    }
+
+    public MailOutbox getMailOutbox() {
+        return mailOutbox;
+    }
+
+    public MailTemplates getMailTemplates() {
+        return mailTemplates;
+    }
+
+    public MethodTiming getMethodTiming() {
+        return methodTiming;
+    }
+
+    public JpaStatistics getJpaStatistics() {
+        return jpaStatistics;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +95,565 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Cache {
+
+        /**
+         * Overrides of the default {@code jhipster.cache.ehcache} settings, by cache name.
+         */
+        private final Map<String, Region> regions = new HashMap<>();
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public static class Region {
+
+            private Long timeToLiveSeconds;
+
+            private Long maxEntries;
+
+            public Long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public Long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+        }
+    }
+
+    public static class JwtCache {
+
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of verified tokens kept in memory.
+         */
+        private int maximumSize = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+    }
+
+    public static class PasswordHashing {
+
+        /**
+         * BCrypt strength, or the minimum strength when {@link #targetVerificationTime} is set.
+         */
+        private int strength = 10;
+
+        /**
+         * When set, the strength is raised at startup until verifying a password takes about this long on this machine.
+         */
+        private Duration targetVerificationTime;
+
+        private int maxStrength = 14;
+
+        /**
+         * Threads verifying customer passwords, defaults to the number of available processors.
+         */
+        private Integer verificationThreads;
+
+        /**
+         * Verifications waiting for a thread, beyond which logins are rejected.
+         */
+        private int verificationQueueCapacity = 100;
+
+        public int getStrength() {
+            return strength;
+        }
+
+        public void setStrength(int strength) {
+            this.strength = strength;
+        }
+
+        public Duration getTargetVerificationTime() {
+            return targetVerificationTime;
+        }
+
+        public void setTargetVerificationTime(Duration targetVerificationTime) {
+            this.targetVerificationTime = targetVerificationTime;
+        }
+
+        public int getMaxStrength() {
+            return maxStrength;
+        }
+
+        public void setMaxStrength(int maxStrength) {
+            this.maxStrength = maxStrength;
+        }
+
+        public Integer getVerificationThreads() {
+            return verificationThreads;
+        }
+
+        public void setVerificationThreads(Integer verificationThreads) {
+            this.verificationThreads = verificationThreads;
+        }
+
+        public int getVerificationQueueCapacity() {
+            return verificationQueueCapacity;
+        }
+
+        public void setVerificationQueueCapacity(int verificationQueueCapacity) {
+            this.verificationQueueCapacity = verificationQueueCapacity;
+        }
+    }
+
+    public static class Pricing {
+
+        private BigDecimal weekdayRate = new BigDecimal("20.00");
+
+        private BigDecimal weekendRate = new BigDecimal("25.00");
+
+        /**
+         * Multiplier of the day rates charged for each day between the due date and the return date.
+         */
+        private BigDecimal lateReturnMultiplier = new BigDecimal("1.5");
+
+        /**
+         * Longest rental priced, in days from its first day to its due or return date, the longer ones being rejected.
+         */
+        private int maxDays = 366;
+
+        /**
+         * Threads pricing the quotes of the batches, defaults to the number of available processors.
+         */
+        private Integer quoteThreads;
+
+        /**
+         * Slices of quotes waiting for a thread, beyond which the request thread prices them itself.
+         */
+        private int quoteQueueCapacity = 100;
+
+        private final List<Season> seasons = new ArrayList<>();
+
+        /**
+         * Multipliers of the day rates, by {@code make} or {@code make/model}, ignoring case.
+         */
+        private final Map<String, BigDecimal> modelMultipliers = new HashMap<>();
+
+        private final List<LongRentalDiscount> longRentalDiscounts = new ArrayList<>();
+
+        private final QuoteCache quoteCache = new QuoteCache();
+
+        public BigDecimal getWeekdayRate() {
+            return weekdayRate;
+        }
+
+        public void setWeekdayRate(BigDecimal weekdayRate) {
+            this.weekdayRate = weekdayRate;
+        }
+
+        public BigDecimal getWeekendRate() {
+            return weekendRate;
+        }
+
+        public void setWeekendRate(BigDecimal weekendRate) {
+            this.weekendRate = weekendRate;
+        }
+
+        public BigDecimal getLateReturnMultiplier() {
+            return lateReturnMultiplier;
+        }
+
+        public void setLateReturnMultiplier(BigDecimal lateReturnMultiplier) {
+            this.lateReturnMultiplier = lateReturnMultiplier;
+        }
+
+        public int getMaxDays() {
+            return maxDays;
+        }
+
+        public void setMaxDays(int maxDays) {
+            this.maxDays = maxDays;
+        }
+
+        public Integer getQuoteThreads() {
+            return quoteThreads;
+        }
+
+        public void setQuoteThreads(Integer quoteThreads) {
+            this.quoteThreads = quoteThreads;
+        }
+
+        public int getQuoteQueueCapacity() {
+            return quoteQueueCapacity;
+        }
+
+        public void setQuoteQueueCapacity(int quoteQueueCapacity) {
+            this.quoteQueueCapacity = quoteQueueCapacity;
+        }
+
+        public List<Season> getSeasons() {
+            return seasons;
+        }
+
+        public Map<String, BigDecimal> getModelMultipliers() {
+            return modelMultipliers;
+        }
+
+        public List<LongRentalDiscount> getLongRentalDiscounts() {
+            return longRentalDiscounts;
+        }
+
+        public QuoteCache getQuoteCache() {
+            return quoteCache;
+        }
+
+        /**
+         * A yearly period, from {@code MM-dd} to {@code MM-dd} inclusive, possibly wrapping around the new year.
+         */
+        public static class Season {
+
+            private String from;
+
+            private String to;
+
+            private BigDecimal multiplier;
+
+            public String getFrom() {
+                return from;
+            }
+
+            public void setFrom(String from) {
+                this.from = from;
+            }
+
+            public String getTo() {
+                return to;
+            }
+
+            public void setTo(String to) {
+                this.to = to;
+            }
+
+            public BigDecimal getMultiplier() {
+                return multiplier;
+            }
+
+            public void setMultiplier(BigDecimal multiplier) {
+                this.multiplier = multiplier;
+            }
+        }
+
+        public static class LongRentalDiscount {
+
+            private int minDays;
+
+            private BigDecimal percent;
+
+            public int getMinDays() {
+                return minDays;
+            }
+
+            public void setMinDays(int minDays) {
+                this.minDays = minDays;
+            }
+
+            public BigDecimal getPercent() {
+                return percent;
+            }
+
+            public void setPercent(BigDecimal percent) {
+                this.percent = percent;
+            }
+        }
+
+        /**
+         * Cache of the computed prices, sized by {@code application.cache.regions.rentalQuotes}.
+         */
+        public static class QuoteCache {
+
+            private boolean enabled = true;
+
+            /**
+             * Names of the pricing strategies whose prices are always computed.
+             */
+            private final Set<String> disabledStrategies = new HashSet<>();
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public Set<String> getDisabledStrategies() {
+                return disabledStrategies;
+            }
+        }
+    }
+
+    public static class MotorbikeImport {
+
+        /**
+         * Rows sent to the database in one JDBC batch, then detached from the persistence context.
+         */
+        private int chunkSize = 500;
+
+        private int maxRows = 100_000;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getMaxRows() {
+            return maxRows;
+        }
+
+        public void setMaxRows(int maxRows) {
+            this.maxRows = maxRows;
+        }
+    }
+
+    public static class MailOutbox {
+
+        /**
+         * Delay between the end of a dispatch and the start of the next one.
+         */
+        private Duration pollInterval = Duration.ofSeconds(5);
+
+        /**
+         * Messages sent over one SMTP connection.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Attempts after which a message is given up and left as {@code FAILED}.
+         */
+        private int maxAttempts = 10;
+
+        /**
+         * Delay before the first retry, doubled after each failed attempt up to {@code max-backoff}.
+         */
+        private Duration initialBackoff = Duration.ofSeconds(30);
+
+        private Duration maxBackoff = Duration.ofHours(1);
+
+        /**
+         * How long a message being sent is hidden from the other dispatches, retried after it if never marked as sent.
+         */
+        private Duration claimTimeout = Duration.ofMinutes(5);
+
+        /**
+         * How long sent and failed messages are kept.
+         */
+        private Duration retention = Duration.ofDays(7);
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Duration getClaimTimeout() {
+            return claimTimeout;
+        }
+
+        public void setClaimTimeout(Duration claimTimeout) {
+            this.claimTimeout = claimTimeout;
+        }
+
+        public Duration getRetention() {
+            return retention;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
+    }
+
+    public static class MailTemplates {
+
+        /**
+         * Languages the mail templates are rendered in when the application is ready, with the Thymeleaf cache enabled.
+         */
+        private List<String> languages = new ArrayList<>(List.of(Constants.DEFAULT_LANGUAGE));
+
+        public List<String> getLanguages() {
+            return languages;
+        }
+
+        public void setLanguages(List<String> languages) {
+            this.languages = languages;
+        }
+    }
+
+    public static class MethodTiming {
+
+        private boolean enabled = true;
+
+        /**
+         * Share of the service and repository calls recorded by the timers, between 0 and 1.
+         */
+        private double sampleRate = 0.1;
+
+        /**
+         * Duration above which a call is logged with the types of its arguments.
+         */
+        private Duration slowThreshold = Duration.ofMillis(500);
+
+        /**
+         * Overrides of the slow threshold, by simple class name or by class and method name such as
+         * {@code MotorbikeService.findOne}.
+         */
+        private final Map<String, Duration> slowThresholds = new HashMap<>();
+
+        /**
+         * Whether the slow call logs include the values of the arguments, except the sensitive ones. Off by default, as
+         * the arguments can hold personal data.
+         */
+        private boolean logArguments = false;
+
+        /**
+         * Characters of each argument kept in the slow call logs.
+         */
+        private int maxArgumentLength = 100;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public Duration getSlowThreshold() {
+            return slowThreshold;
+        }
+
+        public void setSlowThreshold(Duration slowThreshold) {
+            this.slowThreshold = slowThreshold;
+        }
+
+        public Map<String, Duration> getSlowThresholds() {
+            return slowThresholds;
+        }
+
+        public boolean isLogArguments() {
+            return logArguments;
+        }
+
+        public void setLogArguments(boolean logArguments) {
+            this.logArguments = logArguments;
+        }
+
+        public int getMaxArgumentLength() {
+            return maxArgumentLength;
+        }
+
+        public void setMaxArgumentLength(int maxArgumentLength) {
+            this.maxArgumentLength = maxArgumentLength;
+        }
+    }
+
+    public static class JpaStatistics {
+
+        private boolean enabled = false;
+
+        /**
+         * Duration above which a JDBC statement is logged with its bind parameters.
+         */
+        private Duration slowStatementThreshold = Duration.ofMillis(200);
+
+        /**
+         * Number of JDBC statements above which a request is logged, as a likely N+1 select.
+         */
+        private int maxStatementsPerRequest = 50;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getSlowStatementThreshold() {
+            return slowStatementThreshold;
+        }
+
+        public void setSlowStatementThreshold(Duration slowStatementThreshold) {
+            this.slowStatementThreshold = slowStatementThreshold;
+        }
+
+        public int getMaxStatementsPerRequest() {
+            return maxStatementsPerRequest;
+        }
+
+        public void setMaxStatementsPerRequest(int maxStatementsPerRequest) {
+            this.maxStatementsPerRequest = maxStatementsPerRequest;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -1,14 +1,21 @@
 package com.mycompany.myapp.config;
 
+import com.mycompany.myapp.management.JpaCounters;
+import com.mycompany.myapp.service.CustomerService;
+import com.mycompany.myapp.service.RentalQuoteService;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -25,22 +32,92 @@ public class AsyncConfiguration implements AsyncConfigurer {
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties.PasswordHashing passwordHashing;
+
+    private final ApplicationProperties.Pricing pricing;
+
+    private final Environment environment;
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        ApplicationProperties applicationProperties,
+        Environment environment
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.passwordHashing = applicationProperties.getPasswordHashing();
+        this.pricing = applicationProperties.getPricing();
+        this.environment = environment;
     }
 
+    /**
+     * Pool running the {@code @Async} methods, or a virtual thread per call in the virtual threads execution mode
+     * (see {@link VirtualThreadsConfiguration}).
+     * <p>
+     * The tasks of this pool and of the password hashing one run in the {@link JpaCounters} scope of the request
+     * submitting them, so that the JPA statistics count them with it.
+     */
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.debug("Creating Async Task Executor on virtual threads");
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(taskExecutionProperties.getThreadNamePrefix());
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(JpaCounters::propagate);
+            return new ExceptionHandlingAsyncTaskExecutor(executor);
+        }
         log.debug("Creating Async Task Executor");
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
         executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
         executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
         executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
+        executor.setTaskDecorator(JpaCounters::propagate);
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
+    /**
+     * Fixed size pool running the password verifications, which are CPU bound and deliberately slow, hence kept on
+     * platform threads in every execution mode.
+     * <p>
+     * Its queue is bounded: once full, submissions fail with a {@link org.springframework.core.task.TaskRejectedException}
+     * instead of piling up behind a burst of logins.
+     */
+    @Bean(name = CustomerService.PASSWORD_HASHING_EXECUTOR)
+    public Executor passwordHashingExecutor() {
+        log.debug("Creating Password Hashing Task Executor");
+        int threads = passwordHashing.getVerificationThreads() != null
+            ? passwordHashing.getVerificationThreads()
+            : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(passwordHashing.getVerificationQueueCapacity());
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setTaskDecorator(JpaCounters::propagate);
+        return executor;
+    }
+
+    /**
+     * Fixed size pool pricing the quotes of the batches, CPU bound, so that a batch can't take the threads of the
+     * common fork-join pool.
+     * <p>
+     * Its queue is bounded: once full, the submitting thread prices the slice itself, slowing down the batches
+     * instead of piling them up.
+     */
+    @Bean(name = RentalQuoteService.QUOTE_PRICING_EXECUTOR)
+    public Executor quotePricingExecutor() {
+        log.debug("Creating Quote Pricing Task Executor");
+        int threads = pricing.getQuoteThreads() != null ? pricing.getQuoteThreads() : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(pricing.getQuoteQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("quote-pricing-");
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
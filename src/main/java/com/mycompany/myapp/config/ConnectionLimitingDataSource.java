@@ -0,0 +1,118 @@
+package com.mycompany.myapp.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} lending at most a fixed number of connections at a time, the other callers waiting for a permit.
+ * <p>
+ * Used with virtual threads, which are not bounded by a worker pool anymore: thousands of requests can then reach the
+ * connection pool at once. The permits are sized to the pool, so that they queue here in arrival order, without
+ * contending with each other in the pool itself. A permit is released when its connection is closed.
+ * <p>
+ * Only installed in the virtual threads execution mode, with {@code spring.threads.virtual.enabled} (see
+ * {@link VirtualThreadsConfiguration}): the platform thread pools already bound the concurrent callers otherwise.
+ * <p>
+ * {@link #unwrap(Class)} returns this data source for {@link DataSource}, but the Hikari pool for its own types, which
+ * Spring Boot unwraps for the pool metrics. The connections borrowed from the unwrapped pool skip the permits: callers
+ * must not unwrap it to get connections.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+
+    private final Duration timeout;
+
+    /**
+     * @param targetDataSource the data source lending the connections.
+     * @param maxConnections the number of connections lent at a time, the size of the pool.
+     * @param timeout how long to wait for a permit before failing.
+     */
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, Duration timeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConnections, true);
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection(username, password));
+    }
+
+    /**
+     * @return the number of connections that can still be lent without waiting.
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No connection available within " + timeout.toMillis() + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Connection limited(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionLimitingDataSource.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "close" -> {
+                        if (closed.compareAndSet(false, true)) {
+                            try {
+                                connection.close();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    case "isClosed" -> closed.get() || connection.isClosed();
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                }
+        );
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
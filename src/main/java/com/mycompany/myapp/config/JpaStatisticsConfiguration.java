@@ -0,0 +1,103 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.management.EntityLoadCountingInterceptor;
+import com.mycompany.myapp.management.JpaStatisticsEndpoint;
+import com.mycompany.myapp.management.JpaStatisticsFilter;
+import com.mycompany.myapp.management.StatementCountingListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * JPA instrumentation mode, enabled with {@code application.jpa-statistics.enabled}.
+ * <p>
+ * Hibernate generates its statistics, which Spring Boot binds to Micrometer, and the JDBC connections are proxied to
+ * count the statements of each request and log the slow ones. The statistics are reported by the
+ * {@link JpaStatisticsEndpoint}.
+ * <p>
+ * Only the {@value #DATA_SOURCE_BEAN_NAME} bean of the entity manager is proxied, after the
+ * {@link ConnectionLimitingDataSource} of the {@link VirtualThreadsConfiguration}, see {@link #STATEMENT_COUNTING_ORDER}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.jpa-statistics", name = "enabled", havingValue = "true")
+public class JpaStatisticsConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JpaStatisticsConfiguration.class);
+
+    /**
+     * Name of the {@code DataSource} of the entity manager, defined by Spring Boot.
+     */
+    static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    /**
+     * Order of the post-processor proxying the {@code DataSource}: it wraps the one limiting the connections, so that the
+     * statements are counted whatever the execution mode and the time spent waiting for a connection is not.
+     */
+    static final int STATEMENT_COUNTING_ORDER = VirtualThreadsConfiguration.CONNECTION_LIMITING_ORDER + 10;
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaStatisticsHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.INTERCEPTOR, new EntityLoadCountingInterceptor());
+        };
+    }
+
+    @Bean
+    public static StatementCountingDataSourcePostProcessor statementCountingDataSourcePostProcessor(
+        ObjectProvider<ApplicationProperties> applicationProperties
+    ) {
+        return new StatementCountingDataSourcePostProcessor(applicationProperties);
+    }
+
+    @Bean
+    public JpaStatisticsFilter jpaStatisticsFilter(MeterRegistry meterRegistry, ApplicationProperties applicationProperties) {
+        return new JpaStatisticsFilter(meterRegistry, applicationProperties.getJpaStatistics().getMaxStatementsPerRequest());
+    }
+
+    @Bean
+    public JpaStatisticsEndpoint jpaStatisticsEndpoint(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        return new JpaStatisticsEndpoint(entityManagerFactory, meterRegistry);
+    }
+
+    /**
+     * Declared as the type of its bean, for the container to see its order before creating it.
+     */
+    static class StatementCountingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ApplicationProperties> applicationProperties;
+
+        StatementCountingDataSourcePostProcessor(ObjectProvider<ApplicationProperties> applicationProperties) {
+            this.applicationProperties = applicationProperties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource) {
+                ApplicationProperties.JpaStatistics jpaStatistics = applicationProperties.getObject().getJpaStatistics();
+                LOG.info("Counting JDBC statements, logging the ones slower than {}", jpaStatistics.getSlowStatementThreshold());
+                return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new StatementCountingListener(jpaStatistics.getSlowStatementThreshold()))
+                    .build();
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return STATEMENT_COUNTING_ORDER;
+        }
+    }
+}
@@ -29,7 +29,11 @@ public class LiquibaseConfiguration {
         this.env = env;
     }
 
-    @Value("${application.liquibase.async-start:true}")
+    /**
+     * Off by default, as the entity manager must wait for the changelogs: see {@code application.liquibase} in
+     * {@code application.yml}.
+     */
+    @Value("${application.liquibase.async-start:false}")
     private Boolean asyncStart;
 
     @Bean
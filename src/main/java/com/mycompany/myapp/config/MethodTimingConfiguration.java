@@ -0,0 +1,46 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.aop.timing.MethodTimingAspect;
+import com.mycompany.myapp.aop.timing.MethodTimingSettings;
+import com.mycompany.myapp.management.MethodTimingEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+/**
+ * Sampling timing aspect of the services and repositories, in every profile unless
+ * {@code application.method-timing.enabled} is {@code false}.
+ */
+@Configuration
+@EnableAspectJAutoProxy
+@ConditionalOnProperty(prefix = "application.method-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MethodTimingConfiguration {
+
+    @Bean
+    public MethodTimingSettings methodTimingSettings(ApplicationProperties applicationProperties) {
+        ApplicationProperties.MethodTiming methodTiming = applicationProperties.getMethodTiming();
+        return new MethodTimingSettings(methodTiming.getSampleRate(), methodTiming.getSlowThreshold(), methodTiming.getSlowThresholds());
+    }
+
+    @Bean
+    public MethodTimingAspect methodTimingAspect(
+        MeterRegistry meterRegistry,
+        MethodTimingSettings methodTimingSettings,
+        ApplicationProperties applicationProperties
+    ) {
+        ApplicationProperties.MethodTiming methodTiming = applicationProperties.getMethodTiming();
+        return new MethodTimingAspect(
+            meterRegistry,
+            methodTimingSettings,
+            methodTiming.isLogArguments(),
+            methodTiming.getMaxArgumentLength()
+        );
+    }
+
+    @Bean
+    public MethodTimingEndpoint methodTimingEndpoint(MethodTimingSettings methodTimingSettings) {
+        return new MethodTimingEndpoint(methodTimingSettings);
+    }
+}
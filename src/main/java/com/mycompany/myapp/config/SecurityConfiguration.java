@@ -36,8 +36,16 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ApplicationProperties applicationProperties) {
+        ApplicationProperties.PasswordHashing passwordHashing = applicationProperties.getPasswordHashing();
+        int strength = passwordHashing.getTargetVerificationTime() != null
+            ? BCryptStrengthCalibrator.calibrate(
+                passwordHashing.getTargetVerificationTime(),
+                passwordHashing.getStrength(),
+                passwordHashing.getMaxStrength()
+            )
+            : passwordHashing.getStrength();
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -0,0 +1,76 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Virtual threads execution mode, enabled with {@code spring.threads.virtual.enabled} on Java 21 or later.
+ * <p>
+ * Servlet requests are dispatched on virtual threads instead of the Undertow worker pool. {@code @Async} methods run on
+ * the virtual threads of {@link AsyncConfiguration}, and Spring Boot schedules the {@code @Scheduled} jobs on virtual
+ * threads too. As nothing bounds these threads anymore, the JDBC connections are lent through a
+ * {@link ConnectionLimitingDataSource} sized to the Hikari pool. It wraps the pool itself, before any other wrapper
+ * such as the JDBC proxy of the {@link JpaStatisticsConfiguration}, see {@link #CONNECTION_LIMITING_ORDER}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    /**
+     * Order of the post-processor wrapping the Hikari pool in a {@link ConnectionLimitingDataSource}. The post-processors
+     * of a lower order wrap the {@code DataSource} first, so the ones of a higher order wrap the limited one.
+     */
+    static final int CONNECTION_LIMITING_ORDER = 0;
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreadsCustomizer() {
+        return factory ->
+            factory.addDeploymentInfoCustomizers(deploymentInfo -> {
+                LOG.info("Dispatching servlet requests on virtual threads");
+                deploymentInfo.setExecutor(new VirtualThreadTaskExecutor("undertow-"));
+                deploymentInfo.setAsyncExecutor(new VirtualThreadTaskExecutor("undertow-async-"));
+            });
+    }
+
+    @Bean
+    public static ConnectionLimitingDataSourcePostProcessor connectionLimitingDataSourcePostProcessor() {
+        return new ConnectionLimitingDataSourcePostProcessor();
+    }
+
+    /**
+     * Declared as the type of its bean, for the container to see its order before creating it.
+     */
+    static class ConnectionLimitingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikariDataSource) {
+                LOG.info("Limiting JDBC connections to {} at a time", hikariDataSource.getMaximumPoolSize());
+                return new ConnectionLimitingDataSource(
+                    hikariDataSource,
+                    hikariDataSource.getMaximumPoolSize(),
+                    Duration.ofMillis(hikariDataSource.getConnectionTimeout())
+                );
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return CONNECTION_LIMITING_ORDER;
+        }
+    }
+}
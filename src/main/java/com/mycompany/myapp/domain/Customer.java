@@ -1,17 +1,32 @@
 package com.mycompany.myapp.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * A Customer.
  */
 @Entity
 @Table(name = "customer")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraphs(
+    {
+        @NamedEntityGraph(name = "Customer.summary"),
+        @NamedEntityGraph(name = "Customer.withRentals", attributeNodes = @NamedAttributeNode("rentals")),
+        @NamedEntityGraph(
+            name = "Customer.full",
+            attributeNodes = @NamedAttributeNode(value = "rentals", subgraph = "rentals"),
+            subgraphs = @NamedSubgraph(name = "rentals", attributeNodes = @NamedAttributeNode("motorbike"))
+        ),
+    }
+)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Customer implements Serializable {
 
@@ -35,12 +50,15 @@ public class Customer implements Serializable {
     @Column(name = "email", nullable = false)
     private String email;
 
-    @NotNull
+    /**
+     * Hash of the password, never sent to the clients: required on creation, kept as it is when left out of an update.
+     */
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Column(name = "password", nullable = false)
     private String password;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "customer")
-    @JsonIgnoreProperties(value = { "customer", "motorbike" }, allowSetters = true)
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "customer")
+    @JsonIgnoreProperties(value = { "customer" }, allowSetters = true)
     private Set<Rental> rentals = new HashSet<>();
 
     // jhipster-needle-entity-add-field - JHipster will add fields here
@@ -168,7 +186,6 @@ public class Customer implements Serializable {
             ", firstName='" + getFirstName() + "'" +
             ", lastName='" + getLastName() + "'" +
             ", email='" + getEmail() + "'" +
-            ", password='" + getPassword() + "'" +
             "}";
     }
 }
@@ -7,12 +7,21 @@ import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * A Motorbike.
  */
 @Entity
 @Table(name = "motorbike")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraphs(
+    {
+        @NamedEntityGraph(name = "Motorbike.summary"),
+        @NamedEntityGraph(name = "Motorbike.withRentals", attributeNodes = @NamedAttributeNode("rentals")),
+    }
+)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Motorbike implements Serializable {
 
@@ -37,11 +46,11 @@ public class Motorbike implements Serializable {
     @Column(name = "status", nullable = false)
     private BikeStatus status;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "motorbike")
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "motorbike")
     @JsonIgnoreProperties(value = { "customer", "motorbike" }, allowSetters = true)
     private Set<Rental> rentals = new HashSet<>();
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "motorbike")
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "motorbike")
     @JsonIgnoreProperties(value = { "motorbike" }, allowSetters = true)
     private Set<Maintenance> maintenances = new HashSet<>();
 
@@ -11,6 +11,12 @@ import java.time.LocalDate;
  */
 @Entity
 @Table(name = "rental")
+@NamedEntityGraphs(
+    {
+        @NamedEntityGraph(name = "Rental.summary"),
+        @NamedEntityGraph(name = "Rental.full", attributeNodes = { @NamedAttributeNode("customer"), @NamedAttributeNode("motorbike") }),
+    }
+)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Rental implements Serializable {
 
@@ -33,11 +39,11 @@ public class Rental implements Serializable {
     @Column(name = "return_date")
     private LocalDate returnDate;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties(value = { "rentals" }, allowSetters = true)
     private Customer customer;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties(value = { "rentals", "maintenances" }, allowSetters = true)
     private Motorbike motorbike;
 
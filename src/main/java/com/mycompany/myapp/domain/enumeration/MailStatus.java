@@ -0,0 +1,10 @@
+package com.mycompany.myapp.domain.enumeration;
+
+/**
+ * The MailStatus enumeration.
+ */
+public enum MailStatus {
+    PENDING,
+    SENT,
+    FAILED,
+}
@@ -5,11 +5,18 @@ import com.mycompany.myapp.domain.Motorbike;
 import com.mycompany.myapp.domain.Rental;
 import com.mycompany.myapp.domain.enumeration.BikeStatus;
 import com.mycompany.myapp.service.CustomerService;
+import com.mycompany.myapp.service.MotorbikeNotAvailableException;
 import com.mycompany.myapp.service.MotorbikeService;
 import com.mycompany.myapp.service.RentalService;
+import com.mycompany.myapp.service.availability.MotorbikeAvailabilityIndex;
+import com.mycompany.myapp.service.availability.MotorbikeReservationLocks;
 import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class RentalServiceFacade {
@@ -23,20 +30,93 @@ public class RentalServiceFacade {
     @Autowired
     private MotorbikeService motorbikeService;
 
+    @Autowired
+    private MotorbikeAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private MotorbikeReservationLocks reservationLocks;
+
+    /**
+     * Reserve a motorbike for a customer.
+     * <p>
+     * The availability check and the save run under the reservation lock of the motorbike, and the save commits
+     * (updating the availability index) before the lock is released, so concurrent reservations of the same
+     * motorbike can never overlap.
+     */
     public Rental createRental(Long customerId, Long motorbikeId, LocalDate startDate, LocalDate dueDate) {
+        if (dueDate.isBefore(startDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The due date is before the start date");
+        }
         Customer customer = customerService.findOne(customerId).orElseThrow();
-        Motorbike motorbike = motorbikeService.findOne(motorbikeId).orElseThrow();
 
-        if (motorbike.getStatus() != BikeStatus.AVAILABLE) {
-            throw new IllegalStateException("Motorbike is not available.");
-        }
+        return reservationLocks.withLock(motorbikeId, () -> {
+            Motorbike motorbike = motorbikeService.findOne(motorbikeId).orElseThrow();
+
+            if (motorbike.getStatus() == BikeStatus.IN_MAINTENANCE || !availabilityIndex.isAvailable(motorbikeId, startDate, dueDate)) {
+                throw new MotorbikeNotAvailableException();
+            }
 
-        Rental rental = new Rental();
-        rental.setCustomer(customer);
-        rental.setMotorbike(motorbike);
-        rental.setStartDate(startDate);
-        rental.setDueDate(dueDate);
+            Rental rental = new Rental();
+            rental.setCustomer(customer);
+            rental.setMotorbike(motorbike);
+            rental.setStartDate(startDate);
+            rental.setDueDate(dueDate);
+
+            return rentalService.save(rental);
+        });
+    }
 
-        return rentalService.save(rental);
+    /**
+     * Save a new rental of the generated {@code /api/rentals} API, under the same reservation lock and availability
+     * check as {@link #createRental}.
+     */
+    public Rental saveRental(Rental rental) {
+        return withAvailabilityCheck(rental, null, () -> rentalService.save(rental));
+    }
+
+    /**
+     * Update a rental of the generated {@code /api/rentals} API, checking the availability of its motorbike without
+     * its own previous period.
+     */
+    public Rental updateRental(Rental rental) {
+        return withAvailabilityCheck(rental, rental.getId(), () -> rentalService.update(rental));
+    }
+
+    /**
+     * Partially update a rental of the generated {@code /api/rentals} API, checking the availability of its motorbike
+     * for the merged period.
+     */
+    public Optional<Rental> partialUpdateRental(Rental rental) {
+        Optional<Rental> existing = rentalService.findOne(rental.getId());
+        if (existing.isEmpty()) {
+            return existing;
+        }
+        Rental merged = new Rental()
+            .motorbike(existing.get().getMotorbike())
+            .startDate(rental.getStartDate() != null ? rental.getStartDate() : existing.get().getStartDate())
+            .dueDate(rental.getDueDate() != null ? rental.getDueDate() : existing.get().getDueDate())
+            .returnDate(rental.getReturnDate() != null ? rental.getReturnDate() : existing.get().getReturnDate());
+        return withAvailabilityCheck(merged, rental.getId(), () -> rentalService.partialUpdate(rental));
+    }
+
+    /**
+     * Run a save while holding the reservation lock of the motorbike of a rental, once its period is known to be free.
+     * New rentals can't start on a motorbike in maintenance, while existing ones can still be updated, to be returned.
+     */
+    private <T> T withAvailabilityCheck(Rental rental, Long rentalId, Supplier<T> save) {
+        if (rental.getMotorbike() == null || rental.getMotorbike().getId() == null || rental.getStartDate() == null) {
+            return save.get();
+        }
+        Long motorbikeId = rental.getMotorbike().getId();
+        LocalDate end = rental.getReturnDate() != null ? rental.getReturnDate() : rental.getDueDate();
+        return reservationLocks.withLock(motorbikeId, () -> {
+            boolean inMaintenance =
+                rentalId == null &&
+                motorbikeService.findOne(motorbikeId).map(Motorbike::getStatus).orElse(null) == BikeStatus.IN_MAINTENANCE;
+            if (inMaintenance || !availabilityIndex.isAvailable(motorbikeId, rental.getStartDate(), end, rentalId)) {
+                throw new MotorbikeNotAvailableException();
+            }
+            return save.get();
+        });
     }
 }
@@ -0,0 +1,17 @@
+package com.mycompany.myapp.management;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * Hibernate interceptor counting the loaded entities in the {@link JpaCounters}, whether they are read from the
+ * database or from the second-level cache.
+ */
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        JpaCounters.entityLoaded();
+        return false;
+    }
+}
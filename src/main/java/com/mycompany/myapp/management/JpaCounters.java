@@ -0,0 +1,127 @@
+package com.mycompany.myapp.management;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the JDBC statements executed and the entities loaded by the current thread, while a {@link Scope} is open.
+ * <p>
+ * Scopes nest: a statement is counted in every open scope of the thread, so a test can count the statements of a
+ * request while the {@link JpaStatisticsFilter} counts them too. Nothing is counted when the JPA statistics are
+ * disabled, as the JDBC proxy and the Hibernate interceptor feeding the counters are not installed.
+ * <p>
+ * A scope can also be {@linkplain #attach(Scope) attached} to other threads, such as the ones completing an
+ * asynchronous request, so that their statements are counted in it too.
+ */
+public final class JpaCounters {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private JpaCounters() {}
+
+    /**
+     * Open a scope on the current thread, to be closed on the same thread, in a try-with-resources statement.
+     *
+     * @return the scope.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Make a scope, opened on another thread, the current one of this thread until the attachment is closed.
+     *
+     * @param scope the scope.
+     * @return the attachment, to be closed on the same thread, in a try-with-resources statement.
+     */
+    public static Attachment attach(Scope scope) {
+        Attachment attachment = new Attachment(CURRENT.get());
+        CURRENT.set(scope);
+        return attachment;
+    }
+
+    /**
+     * Decorate a task to run in the scope of the submitting thread, if any, as a {@code TaskDecorator}.
+     *
+     * @param task the task.
+     * @return the decorated task.
+     */
+    public static Runnable propagate(Runnable task) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            try (Attachment attachment = attach(scope)) {
+                task.run();
+            }
+        };
+    }
+
+    static void statementExecuted() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements.increment();
+        }
+    }
+
+    static void entityLoaded() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.entitiesLoaded.increment();
+        }
+    }
+
+    /**
+     * Statements executed and entities loaded since the scope was opened, by every thread it is attached to.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+
+        private final LongAdder statements = new LongAdder();
+
+        private final LongAdder entitiesLoaded = new LongAdder();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public long getStatements() {
+            return statements.sum();
+        }
+
+        public long getEntitiesLoaded() {
+            return entitiesLoaded.sum();
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+
+    /**
+     * A scope attached to a thread, restoring the previous scope of the thread once closed.
+     */
+    public static final class Attachment implements AutoCloseable {
+
+        private final Scope previous;
+
+        private Attachment(Scope previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
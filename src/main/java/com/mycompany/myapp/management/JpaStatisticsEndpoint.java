@@ -0,0 +1,151 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Endpoint reporting the Hibernate statistics, next to {@code jhimetrics}, mapped to {@code /management/jpa-stats}.
+ * <ul>
+ * <li>{@code GET} returns the totals since the last reset, the loads of each entity, the queries taking the most time
+ * and, for each endpoint, the statements executed and the entities loaded per request: a high mean is an N+1 select.</li>
+ * <li>{@code DELETE} resets the Hibernate statistics.</li>
+ * </ul>
+ */
+@Endpoint(id = "jpastats")
+public class JpaStatisticsEndpoint {
+
+    private static final int MAX_QUERIES = 20;
+
+    private final Statistics statistics;
+
+    private final MeterRegistry registry;
+
+    public JpaStatisticsEndpoint(EntityManagerFactory entityManagerFactory, MeterRegistry registry) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public JpaStatistics statistics() {
+        return new JpaStatistics(totals(), entities(), queries(), endpoints());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+    }
+
+    private Totals totals() {
+        return new Totals(
+            statistics.getStart(),
+            statistics.getPrepareStatementCount(),
+            statistics.getQueryExecutionCount(),
+            statistics.getEntityLoadCount(),
+            statistics.getEntityFetchCount(),
+            statistics.getCollectionLoadCount(),
+            statistics.getCollectionFetchCount(),
+            statistics.getSecondLevelCacheHitCount(),
+            statistics.getSecondLevelCacheMissCount(),
+            statistics.getTransactionCount(),
+            statistics.getSessionOpenCount()
+        );
+    }
+
+    private List<EntityLoads> entities() {
+        List<EntityLoads> entities = new ArrayList<>();
+        for (String entityName : statistics.getEntityNames()) {
+            EntityStatistics entityStatistics = statistics.getEntityStatistics(entityName);
+            if (entityStatistics.getLoadCount() > 0 || entityStatistics.getFetchCount() > 0) {
+                entities.add(new EntityLoads(entityName, entityStatistics.getLoadCount(), entityStatistics.getFetchCount()));
+            }
+        }
+        entities.sort(Comparator.comparingLong(EntityLoads::loads).reversed());
+        return entities;
+    }
+
+    private List<QueryTimes> queries() {
+        List<QueryTimes> queries = new ArrayList<>();
+        for (String query : statistics.getQueries()) {
+            QueryStatistics queryStatistics = statistics.getQueryStatistics(query);
+            queries.add(
+                new QueryTimes(
+                    query,
+                    queryStatistics.getExecutionCount(),
+                    queryStatistics.getExecutionRowCount(),
+                    queryStatistics.getExecutionTotalTime(),
+                    queryStatistics.getExecutionMaxTime()
+                )
+            );
+        }
+        queries.sort(Comparator.comparingLong(QueryTimes::totalTimeMillis).reversed());
+        return queries.size() > MAX_QUERIES ? queries.subList(0, MAX_QUERIES) : queries;
+    }
+
+    private List<EndpointRequests> endpoints() {
+        List<EndpointRequests> endpoints = new ArrayList<>();
+        for (DistributionSummary statements : registry.find(JpaStatisticsFilter.STATEMENTS_SUMMARY_NAME).summaries()) {
+            DistributionSummary entities = registry
+                .find(JpaStatisticsFilter.ENTITIES_SUMMARY_NAME)
+                .tags(statements.getId().getTags())
+                .summary();
+            endpoints.add(
+                new EndpointRequests(
+                    statements.getId().getTag("method"),
+                    statements.getId().getTag("uri"),
+                    statements.count(),
+                    statements.mean(),
+                    statements.max(),
+                    entities != null ? entities.mean() : 0,
+                    entities != null ? entities.max() : 0
+                )
+            );
+        }
+        endpoints.sort(Comparator.comparingDouble(EndpointRequests::meanStatements).reversed());
+        return endpoints;
+    }
+
+    public record JpaStatistics(Totals totals, List<EntityLoads> entities, List<QueryTimes> queries, List<EndpointRequests> endpoints) {}
+
+    public record Totals(
+        Instant since,
+        long statements,
+        long queries,
+        long entitiesLoaded,
+        long entitiesFetched,
+        long collectionsLoaded,
+        long collectionsFetched,
+        long secondLevelCacheHits,
+        long secondLevelCacheMisses,
+        long transactions,
+        long sessionsOpened
+    ) {}
+
+    public record EntityLoads(String entity, long loads, long fetches) {}
+
+    public record QueryTimes(String query, long executions, long rows, long totalTimeMillis, long maxTimeMillis) {}
+
+    /**
+     * The maximums are the ones of the recent requests, as Micrometer decays them.
+     */
+    public record EndpointRequests(
+        String method,
+        String uri,
+        long requests,
+        double meanStatements,
+        double maxStatements,
+        double meanEntitiesLoaded,
+        double maxEntitiesLoaded
+    ) {}
+}
@@ -0,0 +1,139 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Filter recording the JDBC statements executed and the entities loaded by each request, in the
+ * {@value #STATEMENTS_SUMMARY_NAME} and {@value #ENTITIES_SUMMARY_NAME} distribution summaries of its endpoint.
+ * <p>
+ * Only the requests handled by a Spring MVC handler are recorded, tagged with their method and URI pattern. A request
+ * executing more than {@code max-statements-per-request} statements is logged, as it likely selects its associations
+ * one by one.
+ * <p>
+ * An asynchronous request is recorded once complete: its scope is kept in a request attribute between the dispatches,
+ * attached to the thread running its {@code Callable} or {@code StreamingResponseBody}, and to the tasks of the
+ * executors decorated with {@link JpaCounters#propagate(Runnable)}, such as the one completing a {@code CompletableFuture}.
+ */
+public class JpaStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_SUMMARY_NAME = "app.jpa.request.statements";
+
+    public static final String ENTITIES_SUMMARY_NAME = "app.jpa.request.entities.loaded";
+
+    private static final String SCOPE_ATTRIBUTE = JpaStatisticsFilter.class.getName() + ".SCOPE";
+
+    private final Logger log = LoggerFactory.getLogger(JpaStatisticsFilter.class);
+
+    private final MeterRegistry registry;
+
+    private final int maxStatementsPerRequest;
+
+    public JpaStatisticsFilter(MeterRegistry registry, int maxStatementsPerRequest) {
+        this.registry = registry;
+        this.maxStatementsPerRequest = maxStatementsPerRequest;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        JpaCounters.Scope scope = (JpaCounters.Scope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope == null) {
+            scope = JpaCounters.open();
+            try {
+                WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(SCOPE_ATTRIBUTE, new ScopeAttachingInterceptor(scope));
+                filterChain.doFilter(request, response);
+            } finally {
+                scope.close();
+                complete(request, scope);
+            }
+        } else {
+            try (JpaCounters.Attachment attachment = JpaCounters.attach(scope)) {
+                filterChain.doFilter(request, response);
+            } finally {
+                complete(request, scope);
+            }
+        }
+    }
+
+    /**
+     * Record the request, unless it continues asynchronously: it is then recorded by the filter of its last dispatch.
+     */
+    private void complete(HttpServletRequest request, JpaCounters.Scope scope) {
+        if (isAsyncStarted(request)) {
+            request.setAttribute(SCOPE_ATTRIBUTE, scope);
+        } else {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, JpaCounters.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        String uri = pattern.toString();
+        summary(STATEMENTS_SUMMARY_NAME, "JDBC statements executed per request", request.getMethod(), uri).record(scope.getStatements());
+        summary(ENTITIES_SUMMARY_NAME, "Entities loaded per request", request.getMethod(), uri).record(scope.getEntitiesLoaded());
+        if (scope.getStatements() > maxStatementsPerRequest) {
+            log.warn(
+                "{} {} executed {} statements and loaded {} entities",
+                request.getMethod(),
+                request.getRequestURI(),
+                scope.getStatements(),
+                scope.getEntitiesLoaded()
+            );
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+        return DistributionSummary.builder(name).description(description).tag("method", method).tag("uri", uri).register(registry);
+    }
+
+    /**
+     * Attaches the scope of the request to the thread running its {@code Callable}, while it runs.
+     */
+    private static class ScopeAttachingInterceptor implements CallableProcessingInterceptor {
+
+        private final JpaCounters.Scope scope;
+
+        private final ThreadLocal<JpaCounters.Attachment> attachment = new ThreadLocal<>();
+
+        ScopeAttachingInterceptor(JpaCounters.Scope scope) {
+            this.scope = scope;
+        }
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            attachment.set(JpaCounters.attach(scope));
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            JpaCounters.Attachment current = attachment.get();
+            if (current != null) {
+                attachment.remove();
+                current.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.mycompany.myapp.management;
+
+import com.mycompany.myapp.aop.timing.MethodTimingSettings;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Endpoint tuning the sampling timing aspect while the application runs, the changes being lost on restart.
+ * <ul>
+ * <li>{@code POST /management/methodtiming} with a {@code sampleRate} and/or a {@code slowThreshold}, such as
+ * {@code 200ms}, changes the defaults.</li>
+ * <li>{@code POST /management/methodtiming/MotorbikeService.findOne} with a {@code slowThreshold} overrides it for a
+ * class or a method, {@code DELETE} removes the override.</li>
+ * </ul>
+ */
+@Endpoint(id = "methodtiming")
+public class MethodTimingEndpoint {
+
+    private final MethodTimingSettings settings;
+
+    public MethodTimingEndpoint(MethodTimingSettings settings) {
+        this.settings = settings;
+    }
+
+    @ReadOperation
+    public Settings settings() {
+        return new Settings(settings.getSampleRate(), settings.getSlowThreshold(), settings.getSlowThresholds());
+    }
+
+    @WriteOperation
+    public Settings update(@Nullable Double sampleRate, @Nullable Duration slowThreshold) {
+        if (sampleRate != null) {
+            settings.setSampleRate(sampleRate);
+        }
+        if (slowThreshold != null) {
+            settings.setSlowThreshold(slowThreshold);
+        }
+        return settings();
+    }
+
+    @WriteOperation
+    public Settings updateThreshold(@Selector String target, Duration slowThreshold) {
+        settings.setSlowThreshold(target, slowThreshold);
+        return settings();
+    }
+
+    @DeleteOperation
+    public Settings removeThreshold(@Selector String target) {
+        settings.setSlowThreshold(target, null);
+        return settings();
+    }
+
+    public record Settings(double sampleRate, Duration slowThreshold, Map<String, Duration> slowThresholds) {}
+}
@@ -0,0 +1,80 @@
+package com.mycompany.myapp.management;
+
+import java.time.Duration;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listener of the JDBC proxy, counting the executed statements in the {@link JpaCounters} and logging the slow ones
+ * with their bind parameters.
+ * <p>
+ * A batch counts as a single statement, as it is a single round trip to the database.
+ */
+public class StatementCountingListener implements QueryExecutionListener {
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    private final Logger log = LoggerFactory.getLogger(StatementCountingListener.class);
+
+    private final long slowThresholdMillis;
+
+    public StatementCountingListener(Duration slowThreshold) {
+        this.slowThresholdMillis = slowThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Nothing to do before the execution.
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        JpaCounters.statementExecuted();
+        if (execInfo.getElapsedTime() >= slowThresholdMillis) {
+            log.warn("Slow statement took {}ms: {}", execInfo.getElapsedTime(), new StatementFormatter(queryInfoList));
+        }
+    }
+
+    /**
+     * Statements of an execution and their bind parameters, only formatted when logged.
+     */
+    private record StatementFormatter(List<QueryInfo> queryInfoList) {
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            for (QueryInfo queryInfo : queryInfoList) {
+                if (!builder.isEmpty()) {
+                    builder.append("; ");
+                }
+                builder.append(queryInfo.getQuery());
+                for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+                    builder.append(" [");
+                    for (int i = 0; i < parameters.size(); i++) {
+                        if (i > 0) {
+                            builder.append(", ");
+                        }
+                        appendParameter(builder, parameters.get(i));
+                    }
+                    builder.append(']');
+                }
+            }
+            return builder.toString();
+        }
+
+        private static void appendParameter(StringBuilder builder, ParameterSetOperation parameter) {
+            Object[] args = parameter.getArgs();
+            builder.append(args[0]).append('=');
+            String value = "setNull".equals(parameter.getMethod().getName()) ? "NULL" : String.valueOf(args[1]);
+            if (value.length() > MAX_PARAMETER_LENGTH) {
+                builder.append(value, 0, MAX_PARAMETER_LENGTH).append("...");
+            } else {
+                builder.append(value);
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Customer;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -10,6 +13,21 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, JpaSpecificationExecutor<Customer> {
     Optional<Customer> findByEmail(String email);
+
+    @Query("select c.password from Customer c where c.id = :id")
+    Optional<String> findPasswordById(@Param("id") Long id);
+
+    @EntityGraph("Customer.withRentals")
+    List<Customer> findAllWithRentalsByIdIn(Collection<Long> ids);
+
+    @EntityGraph("Customer.full")
+    List<Customer> findAllWithRentalsAndMotorbikesByIdIn(Collection<Long> ids);
+
+    @EntityGraph("Customer.withRentals")
+    Optional<Customer> findOneWithRentalsById(Long id);
+
+    @EntityGraph("Customer.full")
+    Optional<Customer> findOneWithRentalsAndMotorbikesById(Long id);
 }
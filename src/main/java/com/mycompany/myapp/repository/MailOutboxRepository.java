@@ -0,0 +1,77 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.MailOutboxMessage;
+import com.mycompany.myapp.domain.enumeration.MailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link MailOutboxMessage} entity.
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxMessage, Long> {
+    /**
+     * Lock the oldest pending messages due for sending, skipping the ones locked by another instance.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // -2 is org.hibernate.LockOptions.SKIP_LOCKED
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<MailOutboxMessage> findByStatusAndNextAttemptAtLessThanEqualOrderById(MailStatus status, Instant now, Pageable pageable);
+
+    /**
+     * Replace the content of the messages of the same kind to the same recipient that were not tried yet.
+     *
+     * @return the number of replaced messages, 0 when a new message must be added.
+     */
+    @Modifying
+    @Query(
+        "update MailOutboxMessage m set m.subject = :subject, m.content = :content " +
+        "where m.recipient = :recipient and m.dedupKey = :dedupKey " +
+        "and m.status = com.mycompany.myapp.domain.enumeration.MailStatus.PENDING and m.attempts = 0"
+    )
+    int replacePending(
+        @Param("recipient") String recipient,
+        @Param("dedupKey") String dedupKey,
+        @Param("subject") String subject,
+        @Param("content") String content
+    );
+
+    /**
+     * Queue a message of a kind, or replace the content of the one of the same kind to the same recipient that was not
+     * tried yet, in a single statement: the partial unique index of PostgreSQL on these messages turns a concurrent
+     * duplicate into the update. PostgreSQL only.
+     * <p>
+     * The id is drawn from the sequence: as the high value of a block of the pooled Hibernate optimizer, no other id
+     * of its block is used.
+     *
+     * @return the number of queued or replaced messages.
+     */
+    @Modifying
+    @Query(
+        value = "insert into mail_outbox_message " +
+        "(id, recipient, subject, content, multipart, html, dedup_key, status, attempts, next_attempt_at, created_date) " +
+        "values (nextval('sequence_generator'), :recipient, :subject, :content, :multipart, :html, :dedupKey, 'PENDING', 0, :now, :now) " +
+        "on conflict (recipient, dedup_key) where status = 'PENDING' and attempts = 0 and dedup_key is not null " +
+        "do update set subject = excluded.subject, content = excluded.content",
+        nativeQuery = true
+    )
+    int upsertPending(
+        @Param("recipient") String recipient,
+        @Param("dedupKey") String dedupKey,
+        @Param("subject") String subject,
+        @Param("content") String content,
+        @Param("multipart") boolean multipart,
+        @Param("html") boolean html,
+        @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("delete from MailOutboxMessage m where m.status = :status and m.createdDate < :before")
+    int deleteByStatusAndCreatedDateBefore(@Param("status") MailStatus status, @Param("before") Instant before);
+}
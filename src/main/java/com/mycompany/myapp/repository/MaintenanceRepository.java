@@ -1,7 +1,14 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Maintenance;
+import com.mycompany.myapp.repository.projection.OccupancyPeriod;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +16,28 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface MaintenanceRepository extends JpaRepository<Maintenance, Long> {}
+public interface MaintenanceRepository extends JpaRepository<Maintenance, Long>, JpaSpecificationExecutor<Maintenance> {
+    @Query(
+        "select m.id as id, m.motorbike.id as motorbikeId, m.startDate as startDate, m.endDate as endDate " +
+        "from Maintenance m where m.motorbike is not null"
+    )
+    List<OccupancyPeriod> findAllOccupancyPeriods();
+
+    /**
+     * Count the maintenances of a motorbike occupying a day of {@code [from, to)}: from their start date until their
+     * end date included, or indefinitely while it is unknown.
+     */
+    @Query(
+        "select count(m) from Maintenance m where m.motorbike.id = :motorbikeId " +
+        "and m.startDate < :to and (m.endDate is null or m.endDate >= :from or m.startDate >= :from)"
+    )
+    long countOverlapping(@Param("motorbikeId") Long motorbikeId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Override
+    @EntityGraph(attributePaths = "motorbike")
+    Page<Maintenance> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "motorbike")
+    Page<Maintenance> findAll(Specification<Maintenance> spec, Pageable pageable);
+}
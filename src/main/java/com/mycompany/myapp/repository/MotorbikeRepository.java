@@ -1,7 +1,11 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Motorbike;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +13,41 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface MotorbikeRepository extends JpaRepository<Motorbike, Long> {}
+public interface MotorbikeRepository extends JpaRepository<Motorbike, Long>, JpaSpecificationExecutor<Motorbike> {
+    @Query("select m.id from Motorbike m")
+    List<Long> findAllIds();
+
+    @EntityGraph("Motorbike.withRentals")
+    List<Motorbike> findAllWithRentalsByIdIn(Collection<Long> ids);
+
+    /**
+     * Load the motorbikes with their rentals and maintenances.
+     * <p>
+     * The maintenances are fetched by a second query, as fetching both collections in one query would return the
+     * product of the rentals and maintenances of each motorbike. Must be called within a transaction, for the second
+     * query to initialize the motorbikes loaded by the first.
+     */
+    default List<Motorbike> findAllWithRentalsAndMaintenancesByIdIn(Collection<Long> ids) {
+        List<Motorbike> motorbikes = findAllWithRentalsByIdIn(ids);
+        if (!motorbikes.isEmpty()) {
+            fetchMaintenancesByIdIn(ids);
+        }
+        return motorbikes;
+    }
+
+    @EntityGraph("Motorbike.withRentals")
+    Optional<Motorbike> findOneWithRentalsById(Long id);
+
+    /**
+     * Load a motorbike with its rentals and maintenances, in two queries like
+     * {@link #findAllWithRentalsAndMaintenancesByIdIn(Collection)}. Must be called within a transaction.
+     */
+    default Optional<Motorbike> findOneWithRentalsAndMaintenancesById(Long id) {
+        Optional<Motorbike> motorbike = findOneWithRentalsById(id);
+        motorbike.ifPresent(m -> fetchMaintenancesByIdIn(List.of(id)));
+        return motorbike;
+    }
+
+    @Query("select distinct m from Motorbike m left join fetch m.maintenances where m.id in :ids")
+    List<Motorbike> fetchMaintenancesByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,7 +1,18 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.repository.projection.OccupancyPeriod;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +20,65 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface RentalRepository extends JpaRepository<Rental, Long> {}
+public interface RentalRepository extends JpaRepository<Rental, Long>, JpaSpecificationExecutor<Rental> {
+    @Query(
+        "select r.id as id, r.motorbike.id as motorbikeId, r.startDate as startDate, coalesce(r.returnDate, r.dueDate) as endDate " +
+        "from Rental r where r.motorbike is not null"
+    )
+    List<OccupancyPeriod> findAllOccupancyPeriods();
+
+    /**
+     * Count the rentals of a motorbike, other than the excluded one, occupying a day of {@code [from, to)}: from their
+     * start date until their return date, or their due date while not returned, and at least on their start date.
+     */
+    @Query(
+        "select count(r) from Rental r where r.motorbike.id = :motorbikeId and (:excludedId is null or r.id <> :excludedId) " +
+        "and r.startDate < :to and (coalesce(r.returnDate, r.dueDate) > :from or r.startDate >= :from)"
+    )
+    long countOverlapping(
+        @Param("motorbikeId") Long motorbikeId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        @Param("excludedId") Long excludedId
+    );
+
+    @Override
+    @EntityGraph("Rental.full")
+    Page<Rental> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph("Rental.full")
+    Page<Rental> findAll(Specification<Rental> spec, Pageable pageable);
+
+    @EntityGraph("Rental.full")
+    Optional<Rental> findOneWithCustomerAndMotorbikeById(Long id);
+
+    /**
+     * Stream all the rentals in id order, fetching them from the JDBC driver in batches instead of all at once.
+     * Associations are left as proxies, so only their ids are available without another query.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+        }
+    )
+    @Query("select r from Rental r order by r.id")
+    Stream<Rental> streamAll();
+
+    /**
+     * First page of the rentals in {@code (startDate, id)} order, limited by the size of the {@code pageable}.
+     */
+    @EntityGraph("Rental.full")
+    @Query("select r from Rental r order by r.startDate asc, r.id asc")
+    List<Rental> findFirstByKeyset(Pageable pageable);
+
+    /**
+     * Rentals following the {@code (startDate, id)} position in that order, limited by the size of the {@code pageable}.
+     * The tuple comparison is an index range scan on {@code idx_rental__start_date_id}, whatever the depth of the position.
+     */
+    @EntityGraph("Rental.full")
+    @Query("select r from Rental r where (r.startDate, r.id) > (:startDate, :id) order by r.startDate asc, r.id asc")
+    List<Rental> findAfterKeyset(@Param("startDate") LocalDate startDate, @Param("id") Long id, Pageable pageable);
+}
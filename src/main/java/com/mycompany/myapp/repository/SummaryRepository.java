@@ -0,0 +1,118 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Customer;
+import com.mycompany.myapp.domain.Customer_;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.Motorbike_;
+import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.domain.Rental_;
+import com.mycompany.myapp.repository.projection.CustomerSummary;
+import com.mycompany.myapp.repository.projection.MotorbikeSummary;
+import com.mycompany.myapp.repository.projection.RentalSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository reading pages of the summary projections of the entities matching a {@link Specification}.
+ * <p>
+ * Only the projected columns are selected, without loading entities nor their associations. Spring Data applies
+ * DTO projections to derived and {@code @Query} methods only, not to specifications, hence the criteria queries.
+ */
+@Repository
+public class SummaryRepository {
+
+    private final EntityManager entityManager;
+
+    public SummaryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public Page<MotorbikeSummary> findMotorbikes(Specification<Motorbike> specification, Pageable pageable) {
+        return find(Motorbike.class, MotorbikeSummary.class, specification, pageable, root ->
+            new Selection<?>[] {
+                root.get(Motorbike_.id),
+                root.get(Motorbike_.make),
+                root.get(Motorbike_.model),
+                root.get(Motorbike_.status),
+            }
+        );
+    }
+
+    public Page<CustomerSummary> findCustomers(Specification<Customer> specification, Pageable pageable) {
+        return find(Customer.class, CustomerSummary.class, specification, pageable, root ->
+            new Selection<?>[] {
+                root.get(Customer_.id),
+                root.get(Customer_.firstName),
+                root.get(Customer_.lastName),
+                root.get(Customer_.email),
+            }
+        );
+    }
+
+    /**
+     * The ids of the customer and motorbike are read from the foreign keys of the rental, without joining their tables.
+     */
+    public Page<RentalSummary> findRentals(Specification<Rental> specification, Pageable pageable) {
+        return find(Rental.class, RentalSummary.class, specification, pageable, root ->
+            new Selection<?>[] {
+                root.get(Rental_.id),
+                root.get(Rental_.startDate),
+                root.get(Rental_.dueDate),
+                root.get(Rental_.returnDate),
+                root.get(Rental_.customer).get(Customer_.id),
+                root.get(Rental_.motorbike).get(Motorbike_.id),
+            }
+        );
+    }
+
+    private <T, S> Page<S> find(
+        Class<T> domainClass,
+        Class<S> summaryClass,
+        Specification<T> specification,
+        Pageable pageable,
+        Function<Root<T>, Selection<?>[]> columns
+    ) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<S> query = builder.createQuery(summaryClass);
+        Root<T> root = query.from(domainClass);
+        query.select(builder.construct(summaryClass, columns.apply(root)));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        }
+
+        TypedQuery<S> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(domainClass, specification));
+    }
+
+    private <T> long count(Class<T> domainClass, Specification<T> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,6 @@
+package com.mycompany.myapp.repository.projection;
+
+/**
+ * DTO projection of the public columns of a {@link com.mycompany.myapp.domain.Customer}: no password and no rentals.
+ */
+public record CustomerSummary(Long id, String firstName, String lastName, String email) {}
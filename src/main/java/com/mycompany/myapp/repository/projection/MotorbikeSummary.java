@@ -0,0 +1,8 @@
+package com.mycompany.myapp.repository.projection;
+
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+
+/**
+ * DTO projection of the columns of a {@link com.mycompany.myapp.domain.Motorbike}, without its associations.
+ */
+public record MotorbikeSummary(Long id, String make, String model, BikeStatus status) {}
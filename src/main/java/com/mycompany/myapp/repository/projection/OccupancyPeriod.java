@@ -0,0 +1,17 @@
+package com.mycompany.myapp.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Closed projection of the period during which a motorbike is booked, either by a
+ * {@link com.mycompany.myapp.domain.Rental} or a {@link com.mycompany.myapp.domain.Maintenance}.
+ */
+public interface OccupancyPeriod {
+    Long getId();
+
+    Long getMotorbikeId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
@@ -0,0 +1,9 @@
+package com.mycompany.myapp.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * DTO projection of the columns of a {@link com.mycompany.myapp.domain.Rental}, its customer and motorbike being
+ * referenced by id.
+ */
+public record RentalSummary(Long id, LocalDate startDate, LocalDate dueDate, LocalDate returnDate, Long customerId, Long motorbikeId) {}
@@ -0,0 +1,4 @@
+/**
+ * Spring Data projections.
+ */
+package com.mycompany.myapp.repository.projection;
@@ -0,0 +1,57 @@
+package com.mycompany.myapp.security;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Chooses the BCrypt strength matching a password verification time budget on the current machine.
+ * <p>
+ * Each strength step doubles the work, so the cost is measured once at the minimum strength and extrapolated.
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {}
+
+    /**
+     * Get the highest strength whose verification is expected to fit in the given time.
+     *
+     * @param target the verification time budget.
+     * @param minStrength the strength to use even if it exceeds the budget.
+     * @param maxStrength the strength never to exceed.
+     * @return the strength, between {@code minStrength} and {@code maxStrength}.
+     */
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        String hash = encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int strength = minStrength;
+        long expected = best;
+        while (strength < maxStrength && expected * 2 <= target.toNanos()) {
+            strength++;
+            expected *= 2;
+        }
+        log.info(
+            "BCrypt strength {} verifies in about {} ms (target {} ms, {} ms at strength {})",
+            strength,
+            Duration.ofNanos(expected).toMillis(),
+            target.toMillis(),
+            Duration.ofNanos(best).toMillis(),
+            minStrength
+        );
+        return strength;
+    }
+}
@@ -0,0 +1,120 @@
+package com.mycompany.myapp.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} remembering the tokens its delegate already verified, until they expire.
+ * <p>
+ * Clients send the same bearer token on every request, so once its signature and claims have been checked the decoded
+ * {@link Jwt} is kept under the SHA-256 hash of the token. Only successfully decoded tokens are cached: rejected tokens always
+ * reach the delegate, which keeps tracking them.
+ * <p>
+ * The cache is a lock-free {@link ConcurrentHashMap} bounded to {@code maximumSize} entries. When full, expired entries are
+ * dropped first, then arbitrary ones.
+ * <p>
+ * Decoding time is published as the {@value #DECODE_TIMER_NAME} timer, tagged with {@code cache=hit} or {@code cache=miss}:
+ * the difference between both means is the latency saved by every hit.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    public static final String DECODE_TIMER_NAME = "security.authentication.jwt-decode";
+
+    private final JwtDecoder delegate;
+
+    private final int maximumSize;
+
+    private final Clock clock;
+
+    private final Map<String, Jwt> cache = new ConcurrentHashMap<>();
+
+    private final Timer hitTimer;
+
+    private final Timer missTimer;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maximumSize, Clock clock, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.hitTimer = decodeTimer("hit").register(registry);
+        this.missTimer = decodeTimer("miss").register(registry);
+        Gauge.builder("security.authentication.jwt-cache.size", cache, Map::size)
+            .description("Number of verified tokens held by the JWT decoding cache")
+            .register(registry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        String key = hash(token);
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            if (isUsable(cached)) {
+                hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+            cache.remove(key, cached);
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (isUsable(jwt)) {
+            makeRoom();
+            cache.put(key, jwt);
+        }
+        missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return jwt;
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private boolean isUsable(Jwt jwt) {
+        Instant now = clock.instant();
+        if (jwt.getExpiresAt() == null || !now.isBefore(jwt.getExpiresAt())) {
+            return false;
+        }
+        return jwt.getNotBefore() == null || !now.isBefore(jwt.getNotBefore());
+    }
+
+    private void makeRoom() {
+        if (cache.size() < maximumSize) {
+            return;
+        }
+        cache.values().removeIf(jwt -> !isUsable(jwt));
+        // Still full of live tokens: drop a tenth of them rather than one per insert, to amortize the scan.
+        Iterator<String> keys = cache.keySet().iterator();
+        int excess = cache.size() - maximumSize + Math.max(1, maximumSize / 10);
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static Timer.Builder decodeTimer(String cache) {
+        return Timer.builder(DECODE_TIMER_NAME).description("Time spent decoding bearer tokens").tag("cache", cache);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Customer;
+import com.mycompany.myapp.repository.CustomerRepository;
+import com.mycompany.myapp.repository.SummaryRepository;
+import com.mycompany.myapp.repository.projection.CustomerSummary;
+import com.mycompany.myapp.service.criteria.CustomerCriteria;
+import jakarta.persistence.criteria.JoinType;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Customer} entities in the database.
+ * The main input is a {@link CustomerCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link Customer} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CustomerQueryService extends QueryService<Customer> {
+
+    private final Logger log = LoggerFactory.getLogger(CustomerQueryService.class);
+
+    private final CustomerRepository customerRepository;
+
+    private final SummaryRepository summaryRepository;
+
+    public CustomerQueryService(CustomerRepository customerRepository, SummaryRepository summaryRepository) {
+        this.customerRepository = customerRepository;
+        this.summaryRepository = summaryRepository;
+    }
+
+    /**
+     * Return a {@link Page} of {@link Customer} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Customer> findByCriteria(CustomerCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Customer> specification = createSpecification(criteria);
+        return customerRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link CustomerSummary} of the entities which match the criteria from the database,
+     * selecting only the columns of the summary.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the summaries of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<CustomerSummary> findSummariesByCriteria(CustomerCriteria criteria, Pageable page) {
+        log.debug("find summaries by criteria : {}, page: {}", criteria, page);
+        return summaryRepository.findCustomers(createSpecification(criteria), page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Customer} which matches the criteria from the database,
+     * loading the associations of the given view.
+     * <p>
+     * The associations are fetched by a second query restricted to the ids of the page, as paginating
+     * over a collection fetch join would otherwise happen in memory.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param view The fetch view.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Customer> findByCriteria(CustomerCriteria criteria, Pageable page, FetchView view) {
+        Page<Customer> result = findByCriteria(criteria, page);
+        if (view == FetchView.SUMMARY || !result.hasContent()) {
+            return result;
+        }
+        List<Long> ids = result.map(Customer::getId).getContent();
+        List<Customer> fetched = view == FetchView.WITH_RENTALS
+            ? customerRepository.findAllWithRentalsByIdIn(ids)
+            : customerRepository.findAllWithRentalsAndMotorbikesByIdIn(ids);
+        Map<Long, Customer> byId = fetched.stream().collect(Collectors.toMap(Customer::getId, Function.identity()));
+        return new PageImpl<>(ids.stream().map(byId::get).toList(), page, result.getTotalElements());
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(CustomerCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Customer> specification = createSpecification(criteria);
+        return customerRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link CustomerCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Customer> createSpecification(CustomerCriteria criteria) {
+        Specification<Customer> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Customer_.id));
+            }
+            if (criteria.getFirstName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getFirstName(), Customer_.firstName));
+            }
+            if (criteria.getLastName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getLastName(), Customer_.lastName));
+            }
+            if (criteria.getEmail() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getEmail(), Customer_.email));
+            }
+            if (criteria.getRentalsId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getRentalsId(), root -> root.join(Customer_.rentals, JoinType.LEFT).get(Rental_.id))
+                );
+            }
+        }
+        return specification;
+    }
+}
@@ -1,40 +1,118 @@
 package com.mycompany.myapp.service;
 
+import com.mycompany.myapp.aop.timing.Sensitive;
 import com.mycompany.myapp.domain.Customer;
 import com.mycompany.myapp.repository.CustomerRepository;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service Implementation for managing {@link com.mycompany.myapp.domain.Customer}.
+ * <p>
+ * Its arguments hold credentials, so they are never logged by the method timing aspect.
  */
+@Sensitive
 @Service
 @Transactional
 public class CustomerService {
 
     private final Logger log = LoggerFactory.getLogger(CustomerService.class);
 
+    /**
+     * Name of the bounded executor verifying customer passwords.
+     */
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    public enum AuthenticationResult {
+        AUTHENTICATED,
+        BAD_CREDENTIALS,
+        UNKNOWN_EMAIL,
+    }
+
     private final CustomerRepository customerRepository;
 
-    public CustomerService(CustomerRepository customerRepository) {
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Hash verified for unknown emails, so that they take as long to reject as bad passwords.
+     */
+    private final String unknownEmailHash;
+
+    public CustomerService(CustomerRepository customerRepository, PasswordEncoder passwordEncoder) {
         this.customerRepository = customerRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.unknownEmailHash = passwordEncoder.encode(UUID.randomUUID().toString());
     }
 
-    public Optional<String> authenticate(String email, String password) {
-        return customerRepository
+    /**
+     * Check the credentials of a customer, on the {@value #PASSWORD_HASHING_EXECUTOR} executor.
+     * <p>
+     * Passwords still stored in plain text, or hashed with a lower strength than the current one, are rehashed once verified.
+     * The password sent for an unknown email is still verified against a dummy hash, for the response time not to tell
+     * which emails are registered.
+     *
+     * @param email the email of the customer.
+     * @param password the raw password.
+     * @return the outcome of the verification.
+     * @throws org.springframework.core.task.TaskRejectedException if too many verifications are already pending.
+     */
+    @Async(PASSWORD_HASHING_EXECUTOR)
+    public CompletableFuture<AuthenticationResult> authenticate(String email, String password) {
+        log.debug("Request to authenticate Customer : {}", email);
+        AuthenticationResult result = customerRepository
             .findByEmail(email)
-            .map(customer -> {
-                if (customer.getPassword().equals(password)) {
-                    return Optional.of("Authentication successful");
-                } else {
-                    return Optional.of("Authentication failed");
-                }
-            })
-            .orElse(Optional.of("User not found"));
+            .map(customer -> verifyPassword(customer, password) ? AuthenticationResult.AUTHENTICATED : AuthenticationResult.BAD_CREDENTIALS)
+            .orElseGet(() -> {
+                passwordEncoder.matches(password, unknownEmailHash);
+                return AuthenticationResult.UNKNOWN_EMAIL;
+            });
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private boolean verifyPassword(Customer customer, String password) {
+        String stored = customer.getPassword();
+        if (!isEncoded(stored)) {
+            boolean matches = MessageDigest.isEqual(stored.getBytes(StandardCharsets.UTF_8), password.getBytes(StandardCharsets.UTF_8));
+            if (matches) {
+                log.debug("Hashing legacy password of Customer : {}", customer.getId());
+                customer.setPassword(passwordEncoder.encode(password));
+            }
+            return matches;
+        }
+        boolean matches = passwordEncoder.matches(password, stored);
+        if (matches && passwordEncoder.upgradeEncoding(stored)) {
+            log.debug("Rehashing password of Customer : {}", customer.getId());
+            customer.setPassword(passwordEncoder.encode(password));
+        }
+        return matches;
+    }
+
+    /**
+     * Hash the password sent by a client, even when it looks like a hash: the clients never read the stored one.
+     */
+    private String encodePassword(String password) {
+        return password == null ? null : passwordEncoder.encode(password);
+    }
+
+    /**
+     * Whether a stored password is hashed, the other ones being legacy plain text passwords.
+     */
+    private static boolean isEncoded(String password) {
+        return BCRYPT_PATTERN.matcher(password).matches();
     }
 
     /**
@@ -45,17 +123,23 @@ public class CustomerService {
      */
     public Customer save(Customer customer) {
         log.debug("Request to save Customer : {}", customer);
+        customer.setPassword(encodePassword(customer.getPassword()));
         return customerRepository.save(customer);
     }
 
     /**
-     * Update a customer.
+     * Update a customer, keeping its stored password when none is given.
      *
      * @param customer the entity to save.
      * @return the persisted entity.
      */
     public Customer update(Customer customer) {
         log.debug("Request to update Customer : {}", customer);
+        if (customer.getPassword() == null) {
+            customer.setPassword(customerRepository.findPasswordById(customer.getId()).orElse(null));
+        } else {
+            customer.setPassword(encodePassword(customer.getPassword()));
+        }
         return customerRepository.save(customer);
     }
 
@@ -81,7 +165,7 @@ public class CustomerService {
                     existingCustomer.setEmail(customer.getEmail());
                 }
                 if (customer.getPassword() != null) {
-                    existingCustomer.setPassword(customer.getPassword());
+                    existingCustomer.setPassword(encodePassword(customer.getPassword()));
                 }
 
                 return existingCustomer;
@@ -92,12 +176,13 @@ public class CustomerService {
     /**
      * Get all the customers.
      *
+     * @param pageable the pagination information.
      * @return the list of entities.
      */
     @Transactional(readOnly = true)
-    public List<Customer> findAll() {
+    public Page<Customer> findAll(Pageable pageable) {
         log.debug("Request to get all Customers");
-        return customerRepository.findAll();
+        return customerRepository.findAll(pageable);
     }
 
     /**
@@ -108,8 +193,24 @@ public class CustomerService {
      */
     @Transactional(readOnly = true)
     public Optional<Customer> findOne(Long id) {
-        log.debug("Request to get Customer : {}", id);
-        return customerRepository.findById(id);
+        return findOne(id, FetchView.SUMMARY);
+    }
+
+    /**
+     * Get one customer by id, loading the associations of the given view.
+     *
+     * @param id the id of the entity.
+     * @param view the fetch view.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Customer> findOne(Long id, FetchView view) {
+        log.debug("Request to get Customer : {} with view {}", id, view);
+        return switch (view) {
+            case SUMMARY -> customerRepository.findById(id);
+            case WITH_RENTALS -> customerRepository.findOneWithRentalsById(id);
+            case FULL -> customerRepository.findOneWithRentalsAndMotorbikesById(id);
+        };
     }
 
     /**
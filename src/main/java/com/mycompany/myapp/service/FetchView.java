@@ -0,0 +1,51 @@
+package com.mycompany.myapp.service;
+
+import java.util.Optional;
+
+/**
+ * How much of an entity graph a read loads, matching the named entity graphs declared on the entities.
+ */
+public enum FetchView {
+    /**
+     * Only the columns of the entity itself, associations stay lazy.
+     */
+    SUMMARY("summary"),
+
+    /**
+     * The entity and its rentals.
+     */
+    WITH_RENTALS("withRentals"),
+
+    /**
+     * The entity and all the associations exposed by its REST resource.
+     */
+    FULL("full");
+
+    private final String value;
+
+    FetchView(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Resolve a view from its request parameter value.
+     *
+     * @param value the value of the {@code view} request parameter, {@code null} for the default view.
+     * @return the view, or an empty {@link Optional} if the value is unknown.
+     */
+    public static Optional<FetchView> fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.of(SUMMARY);
+        }
+        for (FetchView view : values()) {
+            if (view.value.equalsIgnoreCase(value)) {
+                return Optional.of(view);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,193 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.MailOutboxMessage;
+import com.mycompany.myapp.domain.enumeration.MailStatus;
+import com.mycompany.myapp.repository.MailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Service sending the mails queued by the {@link MailService}.
+ * <p>
+ * Due messages are claimed in batches, then each batch is sent over a single SMTP connection, outside of any
+ * transaction. A failed message is retried with an exponential backoff, until it runs out of attempts. Claimed messages
+ * are locked with {@code SKIP LOCKED}, so several instances can drain the outbox together, and a claim expires after
+ * {@code claim-timeout}: a message is sent at least once, even when an instance stops halfway through a batch.
+ */
+@Service
+public class MailOutboxDispatcher {
+
+    private final Logger log = LoggerFactory.getLogger(MailOutboxDispatcher.class);
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties.MailOutbox properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public MailOutboxDispatcher(
+        MailOutboxRepository mailOutboxRepository,
+        JavaMailSender javaMailSender,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.jHipsterProperties = jHipsterProperties;
+        this.properties = applicationProperties.getMailOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Send the due messages, batch after batch, until none is left or the mail server can't be reached.
+     */
+    @Scheduled(fixedDelayString = "${application.mail-outbox.poll-interval:PT5S}")
+    public void dispatch() {
+        List<MailOutboxMessage> batch;
+        boolean delivered;
+        do {
+            batch = transactionTemplate.execute(status -> claim());
+            delivered = batch.isEmpty() || send(batch);
+        } while (delivered && batch.size() == properties.getBatchSize());
+    }
+
+    /**
+     * Sent and failed messages are deleted after {@code retention}.
+     * <p>
+     * This is scheduled to get fired every day, at 01:30 (am).
+     */
+    @Scheduled(cron = "0 30 1 * * ?")
+    public void removeOldMessages() {
+        Instant before = Instant.now().minus(properties.getRetention());
+        transactionTemplate.executeWithoutResult(status -> {
+            int sent = mailOutboxRepository.deleteByStatusAndCreatedDateBefore(MailStatus.SENT, before);
+            int failed = mailOutboxRepository.deleteByStatusAndCreatedDateBefore(MailStatus.FAILED, before);
+            log.debug("Deleted {} sent and {} failed mails from the outbox", sent, failed);
+        });
+    }
+
+    /**
+     * Delay before the next attempt of a message, after it failed.
+     *
+     * @param attempts the number of attempts made so far.
+     * @return the delay.
+     */
+    Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 30));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+
+    private List<MailOutboxMessage> claim() {
+        Instant now = Instant.now();
+        List<MailOutboxMessage> batch = mailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderById(
+            MailStatus.PENDING,
+            now,
+            PageRequest.ofSize(properties.getBatchSize())
+        );
+        for (MailOutboxMessage message : batch) {
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(now.plus(properties.getClaimTimeout()));
+        }
+        return batch;
+    }
+
+    /**
+     * @return whether at least one message of the batch was sent.
+     */
+    private boolean send(List<MailOutboxMessage> batch) {
+        Map<MimeMessage, Long> mimeMessages = new LinkedHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (MailOutboxMessage message : batch) {
+            try {
+                mimeMessages.put(mimeMessage(message), message.getId());
+            } catch (MessagingException e) {
+                failures.put(message.getId(), e.toString());
+            }
+        }
+
+        log.debug("Sending {} mails from the outbox", mimeMessages.size());
+        try {
+            if (!mimeMessages.isEmpty()) {
+                javaMailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+            }
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                mimeMessages.values().forEach(id -> failures.put(id, e.toString()));
+            }
+            for (Map.Entry<Object, Exception> failed : e.getFailedMessages().entrySet()) {
+                failures.put(mimeMessages.get(failed.getKey()), failed.getValue().toString());
+            }
+        } catch (MailException e) {
+            mimeMessages.values().forEach(id -> failures.put(id, e.toString()));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> complete(batch, failures));
+        return failures.size() < batch.size();
+    }
+
+    private MimeMessage mimeMessage(MailOutboxMessage message) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, message.isMultipart(), StandardCharsets.UTF_8.name());
+        helper.setTo(message.getRecipient());
+        helper.setFrom(jHipsterProperties.getMail().getFrom());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getContent(), message.isHtml());
+        return mimeMessage;
+    }
+
+    private void complete(List<MailOutboxMessage> batch, Map<Long, String> failures) {
+        Instant now = Instant.now();
+        for (MailOutboxMessage message : mailOutboxRepository.findAllById(batch.stream().map(MailOutboxMessage::getId).toList())) {
+            String error = failures.get(message.getId());
+            if (error == null) {
+                message.setStatus(MailStatus.SENT);
+                message.setSentDate(now);
+                log.debug("Sent email to User '{}'", message.getRecipient());
+            } else {
+                message.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+                if (message.getAttempts() >= properties.getMaxAttempts()) {
+                    message.setStatus(MailStatus.FAILED);
+                    log.warn(
+                        "Email could not be sent to user '{}', giving up after {} attempts: {}",
+                        message.getRecipient(),
+                        message.getAttempts(),
+                        error
+                    );
+                } else {
+                    message.setNextAttemptAt(now.plus(backoff(message.getAttempts())));
+                    log.debug(
+                        "Email could not be sent to user '{}', retrying at {}: {}",
+                        message.getRecipient(),
+                        message.getNextAttemptAt(),
+                        error
+                    );
+                }
+            }
+        }
+    }
+}
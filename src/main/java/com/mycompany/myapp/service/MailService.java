@@ -1,64 +1,62 @@
 package com.mycompany.myapp.service;
 
+import com.mycompany.myapp.domain.MailOutboxMessage;
 import com.mycompany.myapp.domain.User;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import java.nio.charset.StandardCharsets;
-import java.util.Locale;
+import com.mycompany.myapp.repository.MailOutboxRepository;
+import com.mycompany.myapp.service.MailTemplateRenderer.RenderedMail;
+import java.time.Instant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.MessageSource;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
-import tech.jhipster.config.JHipsterProperties;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Service for sending emails asynchronously.
+ * Service for sending emails.
  * <p>
- * We use the {@link Async} annotation to send emails asynchronously.
+ * Emails are queued in the outbox, in the current transaction if any, then sent by the {@link MailOutboxDispatcher}.
  */
 @Service
+@Transactional
 public class MailService {
 
     private final Logger log = LoggerFactory.getLogger(MailService.class);
 
-    private static final String USER = "user";
+    private final MailOutboxRepository mailOutboxRepository;
 
-    private static final String BASE_URL = "baseUrl";
+    private final MailTemplateRenderer mailTemplateRenderer;
 
-    private final JHipsterProperties jHipsterProperties;
-
-    private final JavaMailSender javaMailSender;
-
-    private final MessageSource messageSource;
-
-    private final SpringTemplateEngine templateEngine;
+    /**
+     * Whether the database replaces a concurrently queued pending email itself, from its partial unique index.
+     */
+    private final boolean upsertPending;
 
     public MailService(
-        JHipsterProperties jHipsterProperties,
-        JavaMailSender javaMailSender,
-        MessageSource messageSource,
-        SpringTemplateEngine templateEngine
+        MailOutboxRepository mailOutboxRepository,
+        MailTemplateRenderer mailTemplateRenderer,
+        DataSourceProperties dataSourceProperties
     ) {
-        this.jHipsterProperties = jHipsterProperties;
-        this.javaMailSender = javaMailSender;
-        this.messageSource = messageSource;
-        this.templateEngine = templateEngine;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailTemplateRenderer = mailTemplateRenderer;
+        this.upsertPending = DatabaseDriver.fromJdbcUrl(dataSourceProperties.getUrl()) == DatabaseDriver.POSTGRESQL;
     }
 
-    @Async
     public void sendEmail(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
-        this.sendEmailSync(to, subject, content, isMultipart, isHtml);
+        this.queueEmail(to, subject, content, isMultipart, isHtml, null);
     }
 
-    private void sendEmailSync(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
+    /**
+     * Queue an email, replacing the one of the same kind to the same recipient that was not tried yet, if any.
+     * <p>
+     * On PostgreSQL, the insert falls back to the replacement when it conflicts with such an email, queued by a
+     * concurrent transaction. A failed insert would abort the transaction of the caller, hence the single statement.
+     *
+     * @param dedupKey the kind of the email, or {@code null} to always queue it.
+     */
+    private void queueEmail(String to, String subject, String content, boolean isMultipart, boolean isHtml, String dedupKey) {
         log.debug(
-            "Send email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
+            "Queue email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
             isMultipart,
             isHtml,
             to,
@@ -66,55 +64,47 @@ public class MailService {
             content
         );
 
-        // Prepare message using a Spring helper
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        try {
-            MimeMessageHelper message = new MimeMessageHelper(mimeMessage, isMultipart, StandardCharsets.UTF_8.name());
-            message.setTo(to);
-            message.setFrom(jHipsterProperties.getMail().getFrom());
-            message.setSubject(subject);
-            message.setText(content, isHtml);
-            javaMailSender.send(mimeMessage);
-            log.debug("Sent email to User '{}'", to);
-        } catch (MailException | MessagingException e) {
-            log.warn("Email could not be sent to user '{}'", to, e);
+        if (dedupKey != null && upsertPending) {
+            mailOutboxRepository.upsertPending(to, dedupKey, subject, content, isMultipart, isHtml, Instant.now());
+            return;
         }
+        if (dedupKey != null && mailOutboxRepository.replacePending(to, dedupKey, subject, content) > 0) {
+            log.debug("Replaced pending email to User '{}'", to);
+            return;
+        }
+        MailOutboxMessage message = new MailOutboxMessage();
+        message.setRecipient(to);
+        message.setSubject(subject);
+        message.setContent(content);
+        message.setMultipart(isMultipart);
+        message.setHtml(isHtml);
+        message.setDedupKey(dedupKey);
+        message.setCreatedDate(Instant.now());
+        message.setNextAttemptAt(message.getCreatedDate());
+        mailOutboxRepository.save(message);
     }
 
-    @Async
     public void sendEmailFromTemplate(User user, String templateName, String titleKey) {
-        this.sendEmailFromTemplateSync(user, templateName, titleKey);
-    }
-
-    private void sendEmailFromTemplateSync(User user, String templateName, String titleKey) {
         if (user.getEmail() == null) {
             log.debug("Email doesn't exist for user '{}'", user.getLogin());
             return;
         }
-        Locale locale = Locale.forLanguageTag(user.getLangKey());
-        Context context = new Context(locale);
-        context.setVariable(USER, user);
-        context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
-        String content = templateEngine.process(templateName, context);
-        String subject = messageSource.getMessage(titleKey, null, locale);
-        this.sendEmailSync(user.getEmail(), subject, content, false, true);
+        RenderedMail mail = mailTemplateRenderer.render(user, templateName, titleKey);
+        this.queueEmail(user.getEmail(), mail.subject(), mail.content(), false, true, templateName);
     }
 
-    @Async
     public void sendActivationEmail(User user) {
         log.debug("Sending activation email to '{}'", user.getEmail());
-        this.sendEmailFromTemplateSync(user, "mail/activationEmail", "email.activation.title");
+        this.sendEmailFromTemplate(user, MailTemplateRenderer.ACTIVATION_TEMPLATE, "email.activation.title");
     }
 
-    @Async
     public void sendCreationEmail(User user) {
         log.debug("Sending creation email to '{}'", user.getEmail());
-        this.sendEmailFromTemplateSync(user, "mail/creationEmail", "email.activation.title");
+        this.sendEmailFromTemplate(user, MailTemplateRenderer.CREATION_TEMPLATE, "email.activation.title");
     }
 
-    @Async
     public void sendPasswordResetMail(User user) {
         log.debug("Sending password reset email to '{}'", user.getEmail());
-        this.sendEmailFromTemplateSync(user, "mail/passwordResetEmail", "email.reset.title");
+        this.sendEmailFromTemplate(user, MailTemplateRenderer.PASSWORD_RESET_TEMPLATE, "email.reset.title");
     }
 }
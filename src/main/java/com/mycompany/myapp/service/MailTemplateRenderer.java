@@ -0,0 +1,168 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.User;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Renders the mail templates into the subject and content of the emails.
+ * <p>
+ * When the Thymeleaf cache is enabled, each template is rendered once per configured language when the application is
+ * ready: the first emails don't pay for parsing the templates and loading the message bundles. The subjects are cached
+ * by title key and locale as well. Without the cache, in development, templates and messages are read again every time.
+ */
+@Component
+public class MailTemplateRenderer {
+
+    public static final String ACTIVATION_TEMPLATE = "mail/activationEmail";
+
+    public static final String CREATION_TEMPLATE = "mail/creationEmail";
+
+    public static final String PASSWORD_RESET_TEMPLATE = "mail/passwordResetEmail";
+
+    /**
+     * Title keys of the subjects, by template.
+     */
+    private static final Map<String, String> TEMPLATES = Map.of(
+        ACTIVATION_TEMPLATE,
+        "email.activation.title",
+        CREATION_TEMPLATE,
+        "email.activation.title",
+        PASSWORD_RESET_TEMPLATE,
+        "email.reset.title"
+    );
+
+    private static final String USER = "user";
+
+    private static final String BASE_URL = "baseUrl";
+
+    private final Logger log = LoggerFactory.getLogger(MailTemplateRenderer.class);
+
+    private final SpringTemplateEngine templateEngine;
+
+    private final MessageSource messageSource;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties.MailTemplates properties;
+
+    private final boolean cacheEnabled;
+
+    private final Map<SubjectKey, String> subjects = new ConcurrentHashMap<>();
+
+    public MailTemplateRenderer(
+        SpringTemplateEngine templateEngine,
+        MessageSource messageSource,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        ThymeleafProperties thymeleafProperties
+    ) {
+        this.templateEngine = templateEngine;
+        this.messageSource = messageSource;
+        this.jHipsterProperties = jHipsterProperties;
+        this.properties = applicationProperties.getMailTemplates();
+        this.cacheEnabled = thymeleafProperties.isCache();
+    }
+
+    /**
+     * Render every mail template in every configured language, with a placeholder user.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!cacheEnabled) {
+            return;
+        }
+        User user = new User();
+        user.setLogin("warmup");
+        for (String langKey : properties.getLanguages()) {
+            user.setLangKey(langKey);
+            TEMPLATES.forEach((templateName, titleKey) -> {
+                try {
+                    render(user, templateName, titleKey);
+                } catch (RuntimeException e) {
+                    log.warn("Mail template '{}' could not be rendered in '{}'", templateName, langKey, e);
+                }
+            });
+        }
+        log.debug("Mail templates rendered in {}", properties.getLanguages());
+    }
+
+    /**
+     * Render a mail template for a user, in the language of the user.
+     *
+     * @param user the user the email is sent to.
+     * @param templateName the name of the template.
+     * @param titleKey the message key of the subject.
+     * @return the rendered email.
+     */
+    public RenderedMail render(User user, String templateName, String titleKey) {
+        Locale locale = Locale.forLanguageTag(user.getLangKey());
+        return render(newContext(locale), user, templateName, subject(titleKey, locale));
+    }
+
+    /**
+     * Render a mail template for each user, in the language of the user.
+     * <p>
+     * The users sharing a language share the same context and subject, only the user variable changes from one email
+     * to the next.
+     *
+     * @param users the users the emails are sent to.
+     * @param templateName the name of the template.
+     * @param titleKey the message key of the subject.
+     * @return the rendered emails, in the order of the users.
+     */
+    public List<RenderedMail> render(List<User> users, String templateName, String titleKey) {
+        Map<String, Context> contexts = new HashMap<>();
+        List<RenderedMail> mails = new ArrayList<>(users.size());
+        for (User user : users) {
+            Context context = contexts.computeIfAbsent(user.getLangKey(), langKey -> newContext(Locale.forLanguageTag(langKey)));
+            mails.add(render(context, user, templateName, subject(titleKey, context.getLocale())));
+        }
+        return mails;
+    }
+
+    private RenderedMail render(Context context, User user, String templateName, String subject) {
+        context.setVariable(USER, user);
+        return new RenderedMail(subject, templateEngine.process(templateName, context));
+    }
+
+    private Context newContext(Locale locale) {
+        Context context = new Context(locale);
+        context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
+        return context;
+    }
+
+    private String subject(String titleKey, Locale locale) {
+        if (!cacheEnabled) {
+            return messageSource.getMessage(titleKey, null, locale);
+        }
+        return subjects.computeIfAbsent(new SubjectKey(titleKey, locale), key ->
+            messageSource.getMessage(key.titleKey(), null, key.locale())
+        );
+    }
+
+    /**
+     * A rendered email.
+     *
+     * @param subject the subject of the email.
+     * @param content the HTML content of the email.
+     */
+    public record RenderedMail(String subject, String content) {}
+
+    private record SubjectKey(String titleKey, Locale locale) {}
+}
@@ -0,0 +1,94 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Maintenance;
+import com.mycompany.myapp.repository.MaintenanceRepository;
+import com.mycompany.myapp.service.criteria.MaintenanceCriteria;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Maintenance} entities in the database.
+ * The main input is a {@link MaintenanceCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link Maintenance} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MaintenanceQueryService extends QueryService<Maintenance> {
+
+    private final Logger log = LoggerFactory.getLogger(MaintenanceQueryService.class);
+
+    private final MaintenanceRepository maintenanceRepository;
+
+    public MaintenanceQueryService(MaintenanceRepository maintenanceRepository) {
+        this.maintenanceRepository = maintenanceRepository;
+    }
+
+    /**
+     * Return a {@link Page} of {@link Maintenance} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Maintenance> findByCriteria(MaintenanceCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Maintenance> specification = createSpecification(criteria);
+        return maintenanceRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(MaintenanceCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Maintenance> specification = createSpecification(criteria);
+        return maintenanceRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link MaintenanceCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Maintenance> createSpecification(MaintenanceCriteria criteria) {
+        Specification<Maintenance> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Maintenance_.id));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), Maintenance_.description));
+            }
+            if (criteria.getStartDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getStartDate(), Maintenance_.startDate));
+            }
+            if (criteria.getEndDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getEndDate(), Maintenance_.endDate));
+            }
+            if (criteria.getMotorbikeId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getMotorbikeId(), root ->
+                        root.join(Maintenance_.motorbike, JoinType.LEFT).get(Motorbike_.id)
+                    )
+                );
+            }
+        }
+        return specification;
+    }
+}
@@ -2,10 +2,12 @@ package com.mycompany.myapp.service;
 
 import com.mycompany.myapp.domain.Maintenance;
 import com.mycompany.myapp.repository.MaintenanceRepository;
-import java.util.List;
+import com.mycompany.myapp.service.availability.MotorbikeAvailabilityIndex;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,8 +22,18 @@ public class MaintenanceService {
 
     private final MaintenanceRepository maintenanceRepository;
 
-    public MaintenanceService(MaintenanceRepository maintenanceRepository) {
+    private final MotorbikeAvailabilityIndex availabilityIndex;
+
+    private final ModificationCounters modificationCounters;
+
+    public MaintenanceService(
+        MaintenanceRepository maintenanceRepository,
+        MotorbikeAvailabilityIndex availabilityIndex,
+        ModificationCounters modificationCounters
+    ) {
         this.maintenanceRepository = maintenanceRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.modificationCounters = modificationCounters;
     }
 
     /**
@@ -32,7 +44,7 @@ public class MaintenanceService {
      */
     public Maintenance save(Maintenance maintenance) {
         log.debug("Request to save Maintenance : {}", maintenance);
-        return maintenanceRepository.save(maintenance);
+        return index(maintenanceRepository.save(maintenance));
     }
 
     /**
@@ -43,7 +55,7 @@ public class MaintenanceService {
      */
     public Maintenance update(Maintenance maintenance) {
         log.debug("Request to update Maintenance : {}", maintenance);
-        return maintenanceRepository.save(maintenance);
+        return index(maintenanceRepository.save(maintenance));
     }
 
     /**
@@ -70,18 +82,20 @@ public class MaintenanceService {
 
                 return existingMaintenance;
             })
-            .map(maintenanceRepository::save);
+            .map(maintenanceRepository::save)
+            .map(this::index);
     }
 
     /**
      * Get all the maintenances.
      *
+     * @param pageable the pagination information.
      * @return the list of entities.
      */
     @Transactional(readOnly = true)
-    public List<Maintenance> findAll() {
+    public Page<Maintenance> findAll(Pageable pageable) {
         log.debug("Request to get all Maintenances");
-        return maintenanceRepository.findAll();
+        return maintenanceRepository.findAll(pageable);
     }
 
     /**
@@ -104,5 +118,13 @@ public class MaintenanceService {
     public void delete(Long id) {
         log.debug("Request to delete Maintenance : {}", id);
         maintenanceRepository.deleteById(id);
+        availabilityIndex.afterCommit(() -> availabilityIndex.removeMaintenance(id));
+        modificationCounters.changed(Maintenance.class);
+    }
+
+    private Maintenance index(Maintenance maintenance) {
+        availabilityIndex.afterCommit(() -> availabilityIndex.putMaintenance(maintenance));
+        modificationCounters.changed(Maintenance.class);
+        return maintenance;
     }
 }
@@ -0,0 +1,65 @@
+package com.mycompany.myapp.service;
+
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counters of the changes made to each entity table by the services.
+ * <p>
+ * They back the ETags of the read-heavy endpoints, which can then answer an {@code If-None-Match} without querying the
+ * database. A counter is incremented once the change is committed, so a tag never announces data that readers can't
+ * see yet. Counters are kept in memory, so tags also hold a random epoch of this instance: a tag issued by another
+ * instance, or before a restart, never matches.
+ */
+@Component
+public class ModificationCounters {
+
+    private final String epoch = Long.toUnsignedString(new SecureRandom().nextLong(), 36);
+
+    private final Map<Class<?>, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Record a change of the table of an entity, once the current transaction is committed, or immediately without
+     * a transaction.
+     *
+     * @param entityClass the class of the entity.
+     */
+    public void changed(Class<?> entityClass) {
+        AtomicLong counter = counter(entityClass);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        counter.incrementAndGet();
+                    }
+                }
+            );
+        } else {
+            counter.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get a strong ETag of data read from the tables of the given entities.
+     *
+     * @param entityClasses the classes of the entities.
+     * @return the quoted ETag.
+     */
+    public String etag(Class<?>... entityClasses) {
+        return Stream.of(entityClasses)
+            .map(entityClass -> Long.toString(counter(entityClass).get(), 36))
+            .collect(Collectors.joining("-", "\"" + epoch + "-", "\""));
+    }
+
+    private AtomicLong counter(Class<?> entityClass) {
+        return counters.computeIfAbsent(entityClass, c -> new AtomicLong());
+    }
+}
@@ -0,0 +1,228 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import com.mycompany.myapp.factory.MotorbikeFactory;
+import com.mycompany.myapp.service.availability.MotorbikeAvailabilityIndex;
+import com.mycompany.myapp.service.dto.MotorbikeImportDTO;
+import com.mycompany.myapp.service.dto.MotorbikeImportReportDTO;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Service creating motorbikes in bulk.
+ * <p>
+ * Rows are persisted in chunks of {@code application.motorbike-import.chunk-size}: each chunk is sent as JDBC batches
+ * then detached, so that the persistence context stays small. Ids come from the pooled {@code sequenceGenerator},
+ * which reserves a block of ids per sequence call.
+ */
+@Service
+@Transactional
+public class MotorbikeImportService {
+
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final Logger log = LoggerFactory.getLogger(MotorbikeImportService.class);
+
+    private final EntityManager entityManager;
+
+    private final MotorbikeAvailabilityIndex availabilityIndex;
+
+    private final ModificationCounters modificationCounters;
+
+    private final ApplicationProperties.MotorbikeImport properties;
+
+    public MotorbikeImportService(
+        EntityManager entityManager,
+        MotorbikeAvailabilityIndex availabilityIndex,
+        ModificationCounters modificationCounters,
+        ApplicationProperties applicationProperties
+    ) {
+        this.entityManager = entityManager;
+        this.availabilityIndex = availabilityIndex;
+        this.modificationCounters = modificationCounters;
+        this.properties = applicationProperties.getMotorbikeImport();
+    }
+
+    /**
+     * Create the motorbikes of the valid rows, the others being reported with their error.
+     * <p>
+     * The persistence context is cleared between chunks, so this must run in its own transaction.
+     *
+     * @param rows the rows to import.
+     * @return the report, with one entry per row.
+     */
+    public MotorbikeImportReportDTO importMotorbikes(List<MotorbikeImportDTO> rows) {
+        log.debug("Request to import {} Motorbikes", rows.size());
+        checkSize(rows.size());
+        long start = System.nanoTime();
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(properties.getChunkSize());
+        // Imported motorbikes are not put in the second level cache, which can't hold them all anyway
+        session.setCacheMode(CacheMode.IGNORE);
+
+        MotorbikeImportReportDTO report = new MotorbikeImportReportDTO();
+        List<Long> ids = new ArrayList<>();
+        int pending = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            MotorbikeImportDTO row = rows.get(i);
+            String error = validate(row);
+            if (error != null) {
+                report.addFailed(i, error);
+                continue;
+            }
+            Motorbike motorbike = MotorbikeFactory.createMotorbike(row.getMake().trim(), row.getModel().trim());
+            if (row.getStatus() != null && !row.getStatus().isBlank()) {
+                motorbike.setStatus(parseStatus(row.getStatus()));
+            }
+            entityManager.persist(motorbike);
+            ids.add(motorbike.getId());
+            report.addCreated(i, motorbike.getId());
+            if (++pending == properties.getChunkSize()) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        availabilityIndex.afterCommit(() -> ids.forEach(availabilityIndex::addMotorbike));
+        modificationCounters.changed(Motorbike.class);
+        log.info(
+            "Imported {} Motorbikes, rejected {} rows in {} ms",
+            report.getCreated(),
+            report.getFailed(),
+            (System.nanoTime() - start) / 1_000_000
+        );
+        return report;
+    }
+
+    /**
+     * Read import rows from CSV.
+     * <p>
+     * The first line is a header naming the {@code make}, {@code model} and optional {@code status} columns, in any order;
+     * other columns are ignored. Fields may be double-quoted, with {@code ""} escaping a quote. Blank lines are skipped.
+     *
+     * @param csv the UTF-8 encoded CSV.
+     * @return the rows.
+     * @throws IOException if the CSV can't be read.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MotorbikeImportDTO> readCsv(InputStream csv) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        String line = nextLine(reader);
+        if (line == null) {
+            return List.of();
+        }
+        List<String> header = splitCsvLine(line).stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+        int make = header.indexOf("make");
+        int model = header.indexOf("model");
+        int status = header.indexOf("status");
+        if (make < 0 || model < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The CSV header must name the make and model columns");
+        }
+
+        List<MotorbikeImportDTO> rows = new ArrayList<>();
+        while ((line = nextLine(reader)) != null) {
+            checkSize(rows.size() + 1);
+            List<String> fields = splitCsvLine(line);
+            rows.add(new MotorbikeImportDTO(field(fields, make), field(fields, model), field(fields, status)));
+        }
+        return rows;
+    }
+
+    private void checkSize(int rows) {
+        if (rows > properties.getMaxRows()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + properties.getMaxRows() + " motorbikes per import");
+        }
+    }
+
+    /**
+     * @return the validation error of the row, or {@code null} if it is valid.
+     */
+    private static String validate(MotorbikeImportDTO row) {
+        if (row == null) {
+            return "row is required";
+        }
+        if (row.getMake() == null || row.getMake().isBlank()) {
+            return "make is required";
+        }
+        if (row.getModel() == null || row.getModel().isBlank()) {
+            return "model is required";
+        }
+        if (row.getMake().trim().length() > MAX_COLUMN_LENGTH || row.getModel().trim().length() > MAX_COLUMN_LENGTH) {
+            return "make and model must be at most " + MAX_COLUMN_LENGTH + " characters";
+        }
+        if (row.getStatus() != null && !row.getStatus().isBlank() && parseStatus(row.getStatus()) == null) {
+            return "unknown status " + row.getStatus();
+        }
+        return null;
+    }
+
+    private static BikeStatus parseStatus(String status) {
+        try {
+            return BikeStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String nextLine(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mycompany.myapp.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class MotorbikeNotAvailableException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public MotorbikeNotAvailableException() {
+        super("Motorbike is not available.");
+    }
+}
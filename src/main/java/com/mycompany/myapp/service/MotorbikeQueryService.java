@@ -0,0 +1,173 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.repository.SummaryRepository;
+import com.mycompany.myapp.repository.projection.MotorbikeSummary;
+import com.mycompany.myapp.service.criteria.MotorbikeCriteria;
+import jakarta.persistence.criteria.JoinType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Motorbike} entities in the database.
+ * The main input is a {@link MotorbikeCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link Motorbike} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MotorbikeQueryService extends QueryService<Motorbike> {
+
+    private final Logger log = LoggerFactory.getLogger(MotorbikeQueryService.class);
+
+    private final MotorbikeRepository motorbikeRepository;
+
+    private final SummaryRepository summaryRepository;
+
+    private final ModificationCounters modificationCounters;
+
+    public MotorbikeQueryService(
+        MotorbikeRepository motorbikeRepository,
+        SummaryRepository summaryRepository,
+        ModificationCounters modificationCounters
+    ) {
+        this.motorbikeRepository = motorbikeRepository;
+        this.summaryRepository = summaryRepository;
+        this.modificationCounters = modificationCounters;
+    }
+
+    /**
+     * Return the ETag of the entities which match the criteria, loaded with the associations of the given view,
+     * from the {@link ModificationCounters} of the tables read. The database is not queried.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param view The fetch view.
+     * @return the quoted ETag.
+     */
+    public String etag(MotorbikeCriteria criteria, FetchView view) {
+        List<Class<?>> tables = new ArrayList<>(List.of(Motorbike.class));
+        if (view != FetchView.SUMMARY || (criteria != null && criteria.getRentalsId() != null)) {
+            tables.add(Rental.class);
+        }
+        if (view == FetchView.FULL || (criteria != null && criteria.getMaintenancesId() != null)) {
+            tables.add(Maintenance.class);
+        }
+        return modificationCounters.etag(tables.toArray(new Class<?>[0]));
+    }
+
+    /**
+     * Return a {@link Page} of {@link Motorbike} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Motorbike> findByCriteria(MotorbikeCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Motorbike> specification = createSpecification(criteria);
+        return motorbikeRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link MotorbikeSummary} of the entities which match the criteria from the database,
+     * selecting only the columns of the summary.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the summaries of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<MotorbikeSummary> findSummariesByCriteria(MotorbikeCriteria criteria, Pageable page) {
+        log.debug("find summaries by criteria : {}, page: {}", criteria, page);
+        return summaryRepository.findMotorbikes(createSpecification(criteria), page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link Motorbike} which matches the criteria from the database,
+     * loading the associations of the given view.
+     * <p>
+     * The associations are fetched by a second query restricted to the ids of the page, as paginating
+     * over a collection fetch join would otherwise happen in memory.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param view The fetch view.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Motorbike> findByCriteria(MotorbikeCriteria criteria, Pageable page, FetchView view) {
+        Page<Motorbike> result = findByCriteria(criteria, page);
+        if (view == FetchView.SUMMARY || !result.hasContent()) {
+            return result;
+        }
+        List<Long> ids = result.map(Motorbike::getId).getContent();
+        List<Motorbike> fetched = view == FetchView.WITH_RENTALS
+            ? motorbikeRepository.findAllWithRentalsByIdIn(ids)
+            : motorbikeRepository.findAllWithRentalsAndMaintenancesByIdIn(ids);
+        Map<Long, Motorbike> byId = fetched.stream().collect(Collectors.toMap(Motorbike::getId, Function.identity()));
+        return new PageImpl<>(ids.stream().map(byId::get).toList(), page, result.getTotalElements());
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(MotorbikeCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Motorbike> specification = createSpecification(criteria);
+        return motorbikeRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link MotorbikeCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Motorbike> createSpecification(MotorbikeCriteria criteria) {
+        Specification<Motorbike> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Motorbike_.id));
+            }
+            if (criteria.getMake() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getMake(), Motorbike_.make));
+            }
+            if (criteria.getModel() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getModel(), Motorbike_.model));
+            }
+            if (criteria.getStatus() != null) {
+                specification = specification.and(buildSpecification(criteria.getStatus(), Motorbike_.status));
+            }
+            if (criteria.getRentalsId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getRentalsId(), root -> root.join(Motorbike_.rentals, JoinType.LEFT).get(Rental_.id))
+                );
+            }
+            if (criteria.getMaintenancesId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getMaintenancesId(), root ->
+                        root.join(Motorbike_.maintenances, JoinType.LEFT).get(Maintenance_.id)
+                    )
+                );
+            }
+        }
+        return specification;
+    }
+}
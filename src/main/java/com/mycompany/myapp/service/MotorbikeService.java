@@ -4,10 +4,14 @@ import com.mycompany.myapp.domain.Motorbike;
 import com.mycompany.myapp.domain.enumeration.BikeStatus;
 import com.mycompany.myapp.factory.MotorbikeFactory;
 import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.service.availability.MotorbikeAvailabilityIndex;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,13 +28,23 @@ public class MotorbikeService {
 
     private final MotorbikeRepository motorbikeRepository;
 
-    public MotorbikeService(MotorbikeRepository motorbikeRepository) {
+    private final MotorbikeAvailabilityIndex availabilityIndex;
+
+    private final ModificationCounters modificationCounters;
+
+    public MotorbikeService(
+        MotorbikeRepository motorbikeRepository,
+        MotorbikeAvailabilityIndex availabilityIndex,
+        ModificationCounters modificationCounters
+    ) {
         this.motorbikeRepository = motorbikeRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.modificationCounters = modificationCounters;
     }
 
     public Motorbike createAndSaveMotorbike(String make, String model) {
         Motorbike motorbike = MotorbikeFactory.createMotorbike(make, model);
-        return motorbikeRepository.save(motorbike); // Save the newly created motorbike
+        return index(motorbikeRepository.save(motorbike)); // Save the newly created motorbike
     }
 
     public Motorbike updateMotorbikeStatus(Long id, BikeStatus newStatus) {
@@ -39,7 +53,7 @@ public class MotorbikeService {
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Motorbike not found"));
 
         motorbike.setStatus(newStatus); // Update the status
-        return motorbikeRepository.save(motorbike); // Save the updated motorbike
+        return changed(motorbikeRepository.save(motorbike)); // Save the updated motorbike
     }
 
     /**
@@ -50,7 +64,7 @@ public class MotorbikeService {
      */
     public Motorbike save(Motorbike motorbike) {
         log.debug("Request to save Motorbike : {}", motorbike);
-        return motorbikeRepository.save(motorbike);
+        return index(motorbikeRepository.save(motorbike));
     }
 
     /**
@@ -61,7 +75,7 @@ public class MotorbikeService {
      */
     public Motorbike update(Motorbike motorbike) {
         log.debug("Request to update Motorbike : {}", motorbike);
-        return motorbikeRepository.save(motorbike);
+        return changed(motorbikeRepository.save(motorbike));
     }
 
     /**
@@ -88,18 +102,40 @@ public class MotorbikeService {
 
                 return existingMotorbike;
             })
-            .map(motorbikeRepository::save);
+            .map(motorbikeRepository::save)
+            .map(this::changed);
     }
 
     /**
      * Get all the motorbikes.
      *
+     * @param pageable the pagination information.
      * @return the list of entities.
      */
     @Transactional(readOnly = true)
-    public List<Motorbike> findAll() {
+    public Page<Motorbike> findAll(Pageable pageable) {
         log.debug("Request to get all Motorbikes");
-        return motorbikeRepository.findAll();
+        return motorbikeRepository.findAll(pageable);
+    }
+
+    /**
+     * Get all the motorbikes free during the given window, using the {@link MotorbikeAvailabilityIndex}.
+     *
+     * @param from the first day of the window.
+     * @param to the end of the window (exclusive).
+     * @return the list of entities.
+     */
+    @Transactional(readOnly = true)
+    public List<Motorbike> findAvailable(LocalDate from, LocalDate to) {
+        log.debug("Request to get all Motorbikes available from {} to {}", from, to);
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The end of the window is before its start");
+        }
+        return motorbikeRepository
+            .findAllById(availabilityIndex.findAvailable(from, to))
+            .stream()
+            .filter(motorbike -> motorbike.getStatus() != BikeStatus.IN_MAINTENANCE)
+            .toList();
     }
 
     /**
@@ -110,8 +146,24 @@ public class MotorbikeService {
      */
     @Transactional(readOnly = true)
     public Optional<Motorbike> findOne(Long id) {
-        log.debug("Request to get Motorbike : {}", id);
-        return motorbikeRepository.findById(id);
+        return findOne(id, FetchView.SUMMARY);
+    }
+
+    /**
+     * Get one motorbike by id, loading the associations of the given view.
+     *
+     * @param id the id of the entity.
+     * @param view the fetch view.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Motorbike> findOne(Long id, FetchView view) {
+        log.debug("Request to get Motorbike : {} with view {}", id, view);
+        return switch (view) {
+            case SUMMARY -> motorbikeRepository.findById(id);
+            case WITH_RENTALS -> motorbikeRepository.findOneWithRentalsById(id);
+            case FULL -> motorbikeRepository.findOneWithRentalsAndMaintenancesById(id);
+        };
     }
 
     /**
@@ -122,5 +174,17 @@ public class MotorbikeService {
     public void delete(Long id) {
         log.debug("Request to delete Motorbike : {}", id);
         motorbikeRepository.deleteById(id);
+        availabilityIndex.afterCommit(() -> availabilityIndex.removeMotorbike(id));
+        modificationCounters.changed(Motorbike.class);
+    }
+
+    private Motorbike index(Motorbike motorbike) {
+        availabilityIndex.afterCommit(() -> availabilityIndex.addMotorbike(motorbike.getId()));
+        return changed(motorbike);
+    }
+
+    private Motorbike changed(Motorbike motorbike) {
+        modificationCounters.changed(Motorbike.class);
+        return motorbike;
     }
 }
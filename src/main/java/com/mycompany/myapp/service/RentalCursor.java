@@ -0,0 +1,55 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Rental;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position of a rental in the {@code (startDate, id)} order used by keyset pagination.
+ * <p>
+ * Clients only see the opaque token returned by {@link #encode()}, so the ordering key can change
+ * without breaking their contract.
+ *
+ * @param startDate the start date of the last rental of the previous page.
+ * @param id the id of the last rental of the previous page.
+ */
+public record RentalCursor(LocalDate startDate, Long id) {
+    private static final char SEPARATOR = ':';
+
+    public static RentalCursor of(Rental rental) {
+        return new RentalCursor(rental.getStartDate(), rental.getId());
+    }
+
+    /**
+     * Encode the cursor as a URL safe token.
+     *
+     * @return the token.
+     */
+    public String encode() {
+        String value = startDate.toEpochDay() + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode a token returned by {@link #encode()}.
+     *
+     * @param token the token.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}.
+     */
+    public static RentalCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            LocalDate startDate = LocalDate.ofEpochDay(Long.parseLong(value.substring(0, separator)));
+            return new RentalCursor(startDate, Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
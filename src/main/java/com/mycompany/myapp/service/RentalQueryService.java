@@ -0,0 +1,115 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.repository.RentalRepository;
+import com.mycompany.myapp.repository.SummaryRepository;
+import com.mycompany.myapp.repository.projection.RentalSummary;
+import com.mycompany.myapp.service.criteria.RentalCriteria;
+import jakarta.persistence.criteria.JoinType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Rental} entities in the database.
+ * The main input is a {@link RentalCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link Rental} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RentalQueryService extends QueryService<Rental> {
+
+    private final Logger log = LoggerFactory.getLogger(RentalQueryService.class);
+
+    private final RentalRepository rentalRepository;
+
+    private final SummaryRepository summaryRepository;
+
+    public RentalQueryService(RentalRepository rentalRepository, SummaryRepository summaryRepository) {
+        this.rentalRepository = rentalRepository;
+        this.summaryRepository = summaryRepository;
+    }
+
+    /**
+     * Return a {@link Page} of {@link Rental} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<Rental> findByCriteria(RentalCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Rental> specification = createSpecification(criteria);
+        return rentalRepository.findAll(specification, page);
+    }
+
+    /**
+     * Return a {@link Page} of {@link RentalSummary} of the entities which match the criteria from the database,
+     * selecting only the columns of the summary.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the summaries of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<RentalSummary> findSummariesByCriteria(RentalCriteria criteria, Pageable page) {
+        log.debug("find summaries by criteria : {}, page: {}", criteria, page);
+        return summaryRepository.findRentals(createSpecification(criteria), page);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(RentalCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Rental> specification = createSpecification(criteria);
+        return rentalRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link RentalCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Rental> createSpecification(RentalCriteria criteria) {
+        Specification<Rental> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Rental_.id));
+            }
+            if (criteria.getStartDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getStartDate(), Rental_.startDate));
+            }
+            if (criteria.getDueDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getDueDate(), Rental_.dueDate));
+            }
+            if (criteria.getReturnDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getReturnDate(), Rental_.returnDate));
+            }
+            if (criteria.getCustomerId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getCustomerId(), root -> root.join(Rental_.customer, JoinType.LEFT).get(Customer_.id))
+                );
+            }
+            if (criteria.getMotorbikeId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getMotorbikeId(), root -> root.join(Rental_.motorbike, JoinType.LEFT).get(Motorbike_.id))
+                );
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,268 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.service.dto.PriceQuoteDTO;
+import com.mycompany.myapp.stratergy.PricingStrategy1;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service pricing rentals with the {@link PricingStrategy1} beans.
+ * <p>
+ * Prices are memoized in the {@value #QUOTE_CACHE} cache, under the inputs the strategies depend on: the strategy name,
+ * the make and model of the motorbike and the rental dates.
+ */
+@Service
+public class RentalQuoteService {
+
+    public static final String QUOTE_CACHE = "rentalQuotes";
+
+    /**
+     * Name of the strategy used when a quote does not name one.
+     */
+    public static final String DEFAULT_STRATEGY = "calendarPricing";
+
+    /**
+     * Name of the bounded executor pricing the quotes of the batches.
+     */
+    public static final String QUOTE_PRICING_EXECUTOR = "quotePricingExecutor";
+
+    /**
+     * Quotes priced in parallel then written before the next chunk starts, so that the first results are sent early.
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    /**
+     * Quotes of a chunk priced by a single task of the {@value #QUOTE_PRICING_EXECUTOR} executor.
+     */
+    private static final int SLICE_SIZE = 32;
+
+    private final Logger log = LoggerFactory.getLogger(RentalQuoteService.class);
+
+    private final Map<String, PricingStrategy1> pricingStrategies;
+
+    private final MotorbikeRepository motorbikeRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final CacheManager cacheManager;
+
+    private final ApplicationProperties.Pricing.QuoteCache quoteCache;
+
+    private final int maxDays;
+
+    private final Executor quotePricingExecutor;
+
+    public RentalQuoteService(
+        Map<String, PricingStrategy1> pricingStrategies,
+        MotorbikeRepository motorbikeRepository,
+        ObjectMapper objectMapper,
+        CacheManager cacheManager,
+        ApplicationProperties applicationProperties,
+        @Qualifier(QUOTE_PRICING_EXECUTOR) Executor quotePricingExecutor
+    ) {
+        this.pricingStrategies = pricingStrategies;
+        this.motorbikeRepository = motorbikeRepository;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.quoteCache = applicationProperties.getPricing().getQuoteCache();
+        this.maxDays = applicationProperties.getPricing().getMaxDays();
+        this.quotePricingExecutor = quotePricingExecutor;
+    }
+
+    /**
+     * Price a rental.
+     *
+     * @param strategyName the name of the strategy, {@value #DEFAULT_STRATEGY} is used if {@code null} or unknown.
+     * @param rental the rental to price.
+     * @return the price.
+     * @throws RentalTooLongException if the rental lasts more than {@code application.pricing.max-days}.
+     */
+    public BigDecimal price(String strategyName, Rental rental) {
+        String lengthError = lengthError(rental.getStartDate(), rental.getDueDate(), rental.getReturnDate());
+        if (lengthError != null) {
+            throw new RentalTooLongException(lengthError);
+        }
+        String name = strategyName != null && pricingStrategies.containsKey(strategyName) ? strategyName : DEFAULT_STRATEGY;
+        return price(name, pricingStrategies.get(name), rental);
+    }
+
+    /**
+     * Check the days spanned by the dates of a rental, as the strategies price each of them.
+     *
+     * @return the validation error message, or {@code null} if the rental is short enough.
+     */
+    private String lengthError(LocalDate... dates) {
+        LocalDate first = null;
+        LocalDate last = null;
+        for (LocalDate date : dates) {
+            if (date != null) {
+                first = first == null || date.isBefore(first) ? date : first;
+                last = last == null || date.isAfter(last) ? date : last;
+            }
+        }
+        if (first != null && ChronoUnit.DAYS.between(first, last) > maxDays) {
+            return "a rental lasts at most " + maxDays + " days";
+        }
+        return null;
+    }
+
+    private BigDecimal price(String strategyName, PricingStrategy1 strategy, Rental rental) {
+        if (!quoteCache.isEnabled() || quoteCache.getDisabledStrategies().contains(strategyName)) {
+            return strategy.calculatePrice(rental);
+        }
+        Cache cache = cacheManager.getCache(QUOTE_CACHE);
+        QuoteKey key = QuoteKey.of(strategyName, rental);
+        BigDecimal price = cache.get(key, BigDecimal.class);
+        if (price == null) {
+            price = strategy.calculatePrice(rental);
+            cache.put(key, price);
+        }
+        return price;
+    }
+
+    /**
+     * Price the quotes and write the results as a JSON array, in the order of the quotes.
+     * <p>
+     * Each result holds the {@code index} of its quote, and either its {@code price} and {@code strategy} or the
+     * validation {@code error} of the quote, such as a rental longer than {@code application.pricing.max-days}. The
+     * quotes are priced in slices on the {@value #QUOTE_PRICING_EXECUTOR} executor.
+     *
+     * @param quotes the quotes to price.
+     * @param out the stream to write to.
+     * @throws IOException if the results can't be written.
+     */
+    @Transactional(readOnly = true)
+    public void writeQuotes(List<PriceQuoteDTO> quotes, OutputStream out) throws IOException {
+        log.debug("Request to price {} quotes", quotes.size());
+        Map<Long, Motorbike> motorbikes = motorbikeRepository
+            .findAllById(quotes.stream().map(PriceQuoteDTO::getMotorbikeId).filter(Objects::nonNull).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(Motorbike::getId, Function.identity()));
+
+        Object[] results = new Object[Math.min(CHUNK_SIZE, quotes.size())];
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartArray();
+            for (int from = 0; from < quotes.size(); from += CHUNK_SIZE) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(from + CHUNK_SIZE, quotes.size());
+                List<CompletableFuture<Void>> slices = new ArrayList<>();
+                for (int sliceStart = chunkStart; sliceStart < chunkEnd; sliceStart += SLICE_SIZE) {
+                    int start = sliceStart;
+                    int end = Math.min(sliceStart + SLICE_SIZE, chunkEnd);
+                    slices.add(
+                        CompletableFuture.runAsync(
+                            () -> {
+                                for (int i = start; i < end; i++) {
+                                    results[i - chunkStart] = price(quotes.get(i), motorbikes);
+                                }
+                            },
+                            quotePricingExecutor
+                        )
+                    );
+                }
+                CompletableFuture.allOf(slices.toArray(new CompletableFuture<?>[0])).join();
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    writeResult(generator, i, quotes.get(i), results[i - chunkStart]);
+                }
+                generator.flush();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * @return the price, or the validation error message.
+     */
+    private Object price(PriceQuoteDTO quote, Map<Long, Motorbike> motorbikes) {
+        if (quote == null) {
+            return "quote is required";
+        }
+        if (quote.getMotorbikeId() == null) {
+            return "motorbikeId is required";
+        }
+        if (quote.getStart() == null || quote.getDue() == null) {
+            return "start and due are required";
+        }
+        if (!quote.getDue().isAfter(quote.getStart())) {
+            return "due must be after start";
+        }
+        String lengthError = lengthError(quote.getStart(), quote.getDue());
+        if (lengthError != null) {
+            return lengthError;
+        }
+        String strategyName = strategyName(quote);
+        PricingStrategy1 strategy = pricingStrategies.get(strategyName);
+        if (strategy == null) {
+            return "unknown strategy " + quote.getStrategy();
+        }
+        Motorbike motorbike = motorbikes.get(quote.getMotorbikeId());
+        if (motorbike == null) {
+            return "unknown motorbike " + quote.getMotorbikeId();
+        }
+        return price(strategyName, strategy, new Rental().startDate(quote.getStart()).dueDate(quote.getDue()).motorbike(motorbike));
+    }
+
+    private static String strategyName(PriceQuoteDTO quote) {
+        return quote.getStrategy() == null ? DEFAULT_STRATEGY : quote.getStrategy();
+    }
+
+    private static void writeResult(JsonGenerator generator, int index, PriceQuoteDTO quote, Object result) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("index", index);
+        if (result instanceof BigDecimal price) {
+            generator.writeNumberField("price", price);
+            generator.writeStringField("strategy", strategyName(quote));
+        } else {
+            generator.writeStringField("error", (String) result);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Normalized pricing inputs: make and model are compared ignoring case.
+     */
+    record QuoteKey(String strategy, String make, String model, LocalDate startDate, LocalDate dueDate, LocalDate returnDate)
+        implements Serializable {
+        static QuoteKey of(String strategy, Rental rental) {
+            Motorbike motorbike = rental.getMotorbike();
+            return new QuoteKey(
+                strategy,
+                motorbike == null ? null : normalize(motorbike.getMake()),
+                motorbike == null ? null : normalize(motorbike.getModel()),
+                rental.getStartDate(),
+                rental.getDueDate(),
+                rental.getReturnDate()
+            );
+        }
+
+        private static String normalize(String value) {
+            return value == null ? null : value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -1,11 +1,25 @@
 package com.mycompany.myapp.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.domain.Rental;
 import com.mycompany.myapp.repository.RentalRepository;
+import com.mycompany.myapp.service.availability.MotorbikeAvailabilityIndex;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,12 +30,32 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class RentalService {
 
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
     private final Logger log = LoggerFactory.getLogger(RentalService.class);
 
     private final RentalRepository rentalRepository;
 
-    public RentalService(RentalRepository rentalRepository) {
+    private final MotorbikeAvailabilityIndex availabilityIndex;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final ModificationCounters modificationCounters;
+
+    public RentalService(
+        RentalRepository rentalRepository,
+        MotorbikeAvailabilityIndex availabilityIndex,
+        EntityManager entityManager,
+        ObjectMapper objectMapper,
+        ModificationCounters modificationCounters
+    ) {
         this.rentalRepository = rentalRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.modificationCounters = modificationCounters;
     }
 
     /**
@@ -32,7 +66,7 @@ public class RentalService {
      */
     public Rental save(Rental rental) {
         log.debug("Request to save Rental : {}", rental);
-        return rentalRepository.save(rental);
+        return index(rentalRepository.save(rental));
     }
 
     /**
@@ -43,7 +77,7 @@ public class RentalService {
      */
     public Rental update(Rental rental) {
         log.debug("Request to update Rental : {}", rental);
-        return rentalRepository.save(rental);
+        return index(rentalRepository.save(rental));
     }
 
     /**
@@ -70,18 +104,20 @@ public class RentalService {
 
                 return existingRental;
             })
-            .map(rentalRepository::save);
+            .map(rentalRepository::save)
+            .map(this::index);
     }
 
     /**
      * Get all the rentals.
      *
+     * @param pageable the pagination information.
      * @return the list of entities.
      */
     @Transactional(readOnly = true)
-    public List<Rental> findAll() {
+    public Page<Rental> findAll(Pageable pageable) {
         log.debug("Request to get all Rentals");
-        return rentalRepository.findAll();
+        return rentalRepository.findAll(pageable);
     }
 
     /**
@@ -93,7 +129,84 @@ public class RentalService {
     @Transactional(readOnly = true)
     public Optional<Rental> findOne(Long id) {
         log.debug("Request to get Rental : {}", id);
-        return rentalRepository.findById(id);
+        return rentalRepository.findOneWithCustomerAndMotorbikeById(id);
+    }
+
+    /**
+     * Get the rentals following a cursor in {@code (startDate, id)} order.
+     * <p>
+     * One extra row is read to know whether another page exists, so no count query is run.
+     *
+     * @param cursor the position of the last rental already read, {@code null} for the first page.
+     * @param size the maximum number of rentals to return.
+     * @return the slice of entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Rental> findAfter(RentalCursor cursor, int size) {
+        log.debug("Request to get Rentals after : {}", cursor);
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<Rental> rentals = cursor == null
+            ? rentalRepository.findFirstByKeyset(limit)
+            : rentalRepository.findAfterKeyset(cursor.startDate(), cursor.id(), limit);
+        boolean hasNext = rentals.size() > size;
+        return new SliceImpl<>(hasNext ? rentals.subList(0, size) : rentals, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * Write all the rentals as newline-delimited JSON, one flat object per line with the ids of the customer and the motorbike.
+     * <p>
+     * Rows are streamed from the database and the persistence context is cleared every
+     * {@value #EXPORT_CLEAR_INTERVAL} rows, so memory use does not grow with the size of the table.
+     *
+     * @param out the stream to write to, left open.
+     * @throws IOException if writing fails.
+     */
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        log.debug("Request to export all Rentals");
+        long count = 0;
+        try (
+            Stream<Rental> rentals = rentalRepository.streamAll();
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        ) {
+            generator.setRootValueSeparator(null);
+            for (Iterator<Rental> iterator = rentals.iterator(); iterator.hasNext();) {
+                writeExportLine(generator, iterator.next());
+                if (++count % EXPORT_CLEAR_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        log.debug("Exported {} Rentals", count);
+    }
+
+    private static void writeExportLine(JsonGenerator generator, Rental rental) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", rental.getId());
+        writeDateField(generator, "startDate", rental.getStartDate());
+        writeDateField(generator, "dueDate", rental.getDueDate());
+        writeDateField(generator, "returnDate", rental.getReturnDate());
+        writeIdField(generator, "customerId", rental.getCustomer() == null ? null : rental.getCustomer().getId());
+        writeIdField(generator, "motorbikeId", rental.getMotorbike() == null ? null : rental.getMotorbike().getId());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeDateField(JsonGenerator generator, String name, LocalDate value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, value.toString());
+        }
+    }
+
+    private static void writeIdField(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
     }
 
     /**
@@ -104,5 +217,13 @@ public class RentalService {
     public void delete(Long id) {
         log.debug("Request to delete Rental : {}", id);
         rentalRepository.deleteById(id);
+        availabilityIndex.afterCommit(() -> availabilityIndex.removeRental(id));
+        modificationCounters.changed(Rental.class);
+    }
+
+    private Rental index(Rental rental) {
+        availabilityIndex.afterCommit(() -> availabilityIndex.putRental(rental));
+        modificationCounters.changed(Rental.class);
+        return rental;
     }
 }
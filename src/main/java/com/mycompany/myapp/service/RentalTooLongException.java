@@ -0,0 +1,14 @@
+package com.mycompany.myapp.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class RentalTooLongException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RentalTooLongException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,193 @@
+package com.mycompany.myapp.service.availability;
+
+/**
+ * Balanced (AVL) interval tree over half-open {@code [start, end)} ranges of epoch days.
+ * <p>
+ * Nodes are ordered by {@code (start, key)} and every node carries the greatest {@code end} of its subtree,
+ * so inserts, removals and overlap checks all run in {@code O(log n)}.
+ * <p>
+ * This class is not thread-safe, callers are expected to synchronize on the tree instance.
+ */
+final class IntervalTree {
+
+    private Node root;
+
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Insert the {@code [start, end)} interval identified by {@code key}.
+     *
+     * @param start the first occupied day (inclusive).
+     * @param end the first free day (exclusive), must be greater than {@code start}.
+     * @param key the unique identifier of the interval inside this tree.
+     */
+    void insert(long start, long end, long key) {
+        root = insert(root, start, end, key);
+    }
+
+    /**
+     * Remove the interval identified by {@code key} and starting on {@code start}.
+     *
+     * @return {@code true} if the interval was present.
+     */
+    boolean remove(long start, long key) {
+        int sizeBefore = size;
+        root = remove(root, start, key);
+        return size < sizeBefore;
+    }
+
+    /**
+     * Check whether any stored interval intersects {@code [from, to)}.
+     */
+    boolean overlaps(long from, long to) {
+        Node node = root;
+        while (node != null) {
+            if (node.start < to && from < node.end) {
+                return true;
+            }
+            // If the left subtree reaches past "from", either it holds an overlapping interval or none exists on the right.
+            if (node.left != null && node.left.maxEnd > from) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return false;
+    }
+
+    private Node insert(Node node, long start, long end, long key) {
+        if (node == null) {
+            size++;
+            return new Node(start, end, key);
+        }
+        int cmp = compare(start, key, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, start, end, key);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, start, end, key);
+        } else {
+            node.end = end;
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, long start, long key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, key, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, key);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, key);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = removeMin(node.right);
+            successor.right = node.right;
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(long start, long key, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(key, node.key);
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+
+        private final long start;
+        private final long key;
+        private long end;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long start, long end, long key) {
+            this.start = start;
+            this.end = end;
+            this.key = key;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.mycompany.myapp.service.availability;
+
+import com.mycompany.myapp.domain.Maintenance;
+import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.repository.MaintenanceRepository;
+import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.repository.RentalRepository;
+import com.mycompany.myapp.repository.projection.OccupancyPeriod;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory index of the periods during which each motorbike is booked by a rental or a maintenance.
+ * <p>
+ * Every motorbike owns an {@link IntervalTree} of epoch-day ranges, so checking a booking window for one
+ * motorbike costs {@code O(log n)} in the number of its bookings instead of a scan of the rental table.
+ * <p>
+ * Rentals occupy {@code [startDate, returnDate)}, or {@code [startDate, dueDate)} while not returned.
+ * Maintenances occupy {@code [startDate, endDate]}, and are open-ended while {@code endDate} is unknown.
+ * Requested windows are {@code [from, to)}, a single day when {@code from} and {@code to} are equal.
+ * <p>
+ * The index is loaded in a single read-only transaction once the singletons are instantiated, before the web server
+ * accepts requests, and then kept in sync by the services when their transactions commit. A motorbike missing from the
+ * index is checked against the database instead.
+ */
+@Component
+public class MotorbikeAvailabilityIndex implements SmartInitializingSingleton {
+
+    private static final long OPEN_END = Long.MAX_VALUE;
+
+    private final Logger log = LoggerFactory.getLogger(MotorbikeAvailabilityIndex.class);
+
+    private final MotorbikeRepository motorbikeRepository;
+
+    private final RentalRepository rentalRepository;
+
+    private final MaintenanceRepository maintenanceRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, IntervalTree> trees = new ConcurrentHashMap<>();
+
+    private final Map<Long, Booking> rentals = new ConcurrentHashMap<>();
+
+    private final Map<Long, Booking> maintenances = new ConcurrentHashMap<>();
+
+    public MotorbikeAvailabilityIndex(
+        MotorbikeRepository motorbikeRepository,
+        RentalRepository rentalRepository,
+        MaintenanceRepository maintenanceRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.motorbikeRepository = motorbikeRepository;
+        this.rentalRepository = rentalRepository;
+        this.maintenanceRepository = maintenanceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> load());
+    }
+
+    /**
+     * Load every motorbike and booking period from the database.
+     */
+    void load() {
+        log.debug("Loading motorbike availability index");
+        motorbikeRepository.findAllIds().forEach(this::addMotorbike);
+        for (OccupancyPeriod period : rentalRepository.findAllOccupancyPeriods()) {
+            put(rentals, Kind.RENTAL, period.getId(), period.getMotorbikeId(), rentalPeriod(period.getStartDate(), period.getEndDate()));
+        }
+        for (OccupancyPeriod period : maintenanceRepository.findAllOccupancyPeriods()) {
+            put(
+                maintenances,
+                Kind.MAINTENANCE,
+                period.getId(),
+                period.getMotorbikeId(),
+                maintenancePeriod(period.getStartDate(), period.getEndDate())
+            );
+        }
+        log.info(
+            "Motorbike availability index loaded: {} motorbikes, {} rentals, {} maintenances",
+            trees.size(),
+            rentals.size(),
+            maintenances.size()
+        );
+    }
+
+    /**
+     * Check whether a motorbike has no booking intersecting the given window.
+     *
+     * @param motorbikeId the id of the motorbike.
+     * @param from the first day of the window.
+     * @param to the end of the window (exclusive).
+     * @return {@code true} if the motorbike is free during the whole window.
+     */
+    public boolean isAvailable(Long motorbikeId, LocalDate from, LocalDate to) {
+        return isAvailable(motorbikeId, from, to, null);
+    }
+
+    /**
+     * Check whether a motorbike has no booking intersecting the given window, other than a rental being updated.
+     * <p>
+     * A motorbike missing from the index, such as one created by another instance, is checked against the database.
+     *
+     * @param motorbikeId the id of the motorbike.
+     * @param from the first day of the window.
+     * @param to the end of the window (exclusive).
+     * @param excludedRentalId the id of the rental to ignore, {@code null} to consider every booking.
+     * @return {@code true} if the motorbike is free during the whole window.
+     */
+    public boolean isAvailable(Long motorbikeId, LocalDate from, LocalDate to, Long excludedRentalId) {
+        long[] window = window(from, to);
+        IntervalTree tree = trees.get(motorbikeId);
+        if (tree == null) {
+            log.debug("Motorbike {} is not indexed, checking its bookings in the database", motorbikeId);
+            LocalDate first = LocalDate.ofEpochDay(window[0]);
+            LocalDate end = LocalDate.ofEpochDay(window[1]);
+            return (
+                rentalRepository.countOverlapping(motorbikeId, first, end, excludedRentalId) == 0 &&
+                maintenanceRepository.countOverlapping(motorbikeId, first, end) == 0
+            );
+        }
+        Booking excluded = excludedRentalId == null ? null : rentals.get(excludedRentalId);
+        synchronized (tree) {
+            // The excluded rental is taken out of the tree for the check, without the lock being released in between.
+            boolean removed =
+                excluded != null &&
+                excluded.motorbikeId() == motorbikeId &&
+                tree.remove(excluded.start(), Kind.RENTAL.key(excludedRentalId));
+            try {
+                return !tree.overlaps(window[0], window[1]);
+            } finally {
+                if (removed) {
+                    tree.insert(excluded.start(), excluded.end(), Kind.RENTAL.key(excludedRentalId));
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the ids of all the motorbikes with no booking intersecting the given window.
+     *
+     * @param from the first day of the window.
+     * @param to the end of the window (exclusive).
+     * @return the ids of the free motorbikes.
+     */
+    public List<Long> findAvailable(LocalDate from, LocalDate to) {
+        long[] window = window(from, to);
+        List<Long> available = new ArrayList<>();
+        trees.forEach((motorbikeId, tree) -> {
+            synchronized (tree) {
+                if (!tree.overlaps(window[0], window[1])) {
+                    available.add(motorbikeId);
+                }
+            }
+        });
+        return available;
+    }
+
+    public void addMotorbike(Long motorbikeId) {
+        if (motorbikeId != null) {
+            trees.computeIfAbsent(motorbikeId, id -> new IntervalTree());
+        }
+    }
+
+    public void removeMotorbike(Long motorbikeId) {
+        if (motorbikeId != null) {
+            trees.remove(motorbikeId);
+            rentals.values().removeIf(booking -> booking.motorbikeId() == motorbikeId);
+            maintenances.values().removeIf(booking -> booking.motorbikeId() == motorbikeId);
+        }
+    }
+
+    public void putRental(Rental rental) {
+        if (rental.getId() == null) {
+            return;
+        }
+        if (rental.getMotorbike() == null || rental.getMotorbike().getId() == null || rental.getStartDate() == null) {
+            removeRental(rental.getId());
+            return;
+        }
+        LocalDate end = rental.getReturnDate() != null ? rental.getReturnDate() : rental.getDueDate();
+        put(rentals, Kind.RENTAL, rental.getId(), rental.getMotorbike().getId(), rentalPeriod(rental.getStartDate(), end));
+    }
+
+    public void removeRental(Long rentalId) {
+        remove(rentals, Kind.RENTAL, rentalId);
+    }
+
+    public void putMaintenance(Maintenance maintenance) {
+        if (maintenance.getId() == null) {
+            return;
+        }
+        if (maintenance.getMotorbike() == null || maintenance.getMotorbike().getId() == null || maintenance.getStartDate() == null) {
+            removeMaintenance(maintenance.getId());
+            return;
+        }
+        put(
+            maintenances,
+            Kind.MAINTENANCE,
+            maintenance.getId(),
+            maintenance.getMotorbike().getId(),
+            maintenancePeriod(maintenance.getStartDate(), maintenance.getEndDate())
+        );
+    }
+
+    public void removeMaintenance(Long maintenanceId) {
+        remove(maintenances, Kind.MAINTENANCE, maintenanceId);
+    }
+
+    /**
+     * Run an index update once the current transaction is committed, or immediately without a transaction,
+     * so that rolled back changes never reach the index.
+     *
+     * @param action the index update.
+     */
+    public void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+            );
+        } else {
+            action.run();
+        }
+    }
+
+    private void put(Map<Long, Booking> bookings, Kind kind, Long id, Long motorbikeId, long[] period) {
+        if (id == null || motorbikeId == null || period == null) {
+            return;
+        }
+        Booking booking = new Booking(motorbikeId, period[0], period[1]);
+        Booking previous = bookings.put(id, booking);
+        if (previous != null) {
+            detach(previous, kind, id);
+        }
+        IntervalTree tree = trees.computeIfAbsent(motorbikeId, key -> new IntervalTree());
+        synchronized (tree) {
+            tree.insert(booking.start(), booking.end(), kind.key(id));
+        }
+    }
+
+    private void remove(Map<Long, Booking> bookings, Kind kind, Long id) {
+        if (id == null) {
+            return;
+        }
+        Booking previous = bookings.remove(id);
+        if (previous != null) {
+            detach(previous, kind, id);
+        }
+    }
+
+    private void detach(Booking booking, Kind kind, Long id) {
+        IntervalTree tree = trees.get(booking.motorbikeId());
+        if (tree != null) {
+            synchronized (tree) {
+                tree.remove(booking.start(), kind.key(id));
+            }
+        }
+    }
+
+    private static long[] rentalPeriod(LocalDate start, LocalDate end) {
+        if (start == null) {
+            return null;
+        }
+        long first = start.toEpochDay();
+        long last = end == null ? first + 1 : end.toEpochDay();
+        return new long[] { first, Math.max(last, first + 1) };
+    }
+
+    private static long[] maintenancePeriod(LocalDate start, LocalDate end) {
+        if (start == null) {
+            return null;
+        }
+        long first = start.toEpochDay();
+        long last = end == null ? OPEN_END : end.toEpochDay() + 1;
+        return new long[] { first, Math.max(last, first + 1) };
+    }
+
+    private static long[] window(LocalDate from, LocalDate to) {
+        long first = from.toEpochDay();
+        long last = to == null ? first + 1 : to.toEpochDay();
+        return new long[] { first, Math.max(last, first + 1) };
+    }
+
+    private record Booking(long motorbikeId, long start, long end) {}
+
+    private enum Kind {
+        RENTAL,
+        MAINTENANCE;
+
+        /**
+         * Rentals and maintenances share the id sequence but not the table, so the kind is folded into the key.
+         */
+        long key(Long id) {
+            return (id << 1) | ordinal();
+        }
+    }
+}
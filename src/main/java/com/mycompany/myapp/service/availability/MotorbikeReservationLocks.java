@@ -0,0 +1,59 @@
+package com.mycompany.myapp.service.availability;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Striped lock table serializing reservations per motorbike.
+ * <p>
+ * Each motorbike id is hashed onto one of a fixed number of stripes, so two reservations for the same motorbike
+ * always contend while reservations for different motorbikes almost never do, and the table never grows.
+ */
+@Component
+public class MotorbikeReservationLocks {
+
+    private static final int STRIPES = 256;
+
+    private static final long MAX_WAIT_MILLIS = 5_000;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public MotorbikeReservationLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Run the claim while holding the stripe of the motorbike.
+     *
+     * @param motorbikeId the id of the motorbike being reserved.
+     * @param claim the check-and-save to run atomically, which must commit before returning.
+     * @return the result of the claim.
+     * @throws ReservationLockUnavailableException if the stripe could not be acquired in time, or the thread was
+     * interrupted while waiting for it, in which case its interrupt flag is set again.
+     */
+    public <T> T withLock(Long motorbikeId, Supplier<T> claim) {
+        ReentrantLock lock = locks[stripe(motorbikeId)];
+        try {
+            if (!lock.tryLock(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                throw new ReservationLockUnavailableException("Timed out waiting for the reservation lock of motorbike " + motorbikeId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReservationLockUnavailableException("Interrupted while waiting for the reservation lock of motorbike " + motorbikeId);
+        }
+        try {
+            return claim.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int stripe(Long motorbikeId) {
+        long h = motorbikeId * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 56) & (STRIPES - 1);
+    }
+}
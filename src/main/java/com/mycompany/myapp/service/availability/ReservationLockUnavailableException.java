@@ -0,0 +1,18 @@
+package com.mycompany.myapp.service.availability;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the reservation lock of a motorbike can't be acquired, because other reservations held it for too long or
+ * the waiting thread was interrupted: the reservation may be retried.
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "Motorbike reservations are busy")
+public class ReservationLockUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ReservationLockUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Motorbike availability index.
+ */
+package com.mycompany.myapp.service.availability;
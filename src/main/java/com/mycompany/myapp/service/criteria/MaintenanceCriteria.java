@@ -0,0 +1,203 @@
+package com.mycompany.myapp.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.Maintenance} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.MaintenanceResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /maintenances?motorbikeId.equals=5&endDate.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MaintenanceCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter description;
+
+    private LocalDateFilter startDate;
+
+    private LocalDateFilter endDate;
+
+    private LongFilter motorbikeId;
+
+    private Boolean distinct;
+
+    public MaintenanceCriteria() {}
+
+    public MaintenanceCriteria(MaintenanceCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.description = other.optionalDescription().map(StringFilter::copy).orElse(null);
+        this.startDate = other.optionalStartDate().map(LocalDateFilter::copy).orElse(null);
+        this.endDate = other.optionalEndDate().map(LocalDateFilter::copy).orElse(null);
+        this.motorbikeId = other.optionalMotorbikeId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public MaintenanceCriteria copy() {
+        return new MaintenanceCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getDescription() {
+        return description;
+    }
+
+    public Optional<StringFilter> optionalDescription() {
+        return Optional.ofNullable(description);
+    }
+
+    public StringFilter description() {
+        if (description == null) {
+            setDescription(new StringFilter());
+        }
+        return description;
+    }
+
+    public void setDescription(StringFilter description) {
+        this.description = description;
+    }
+
+    public LocalDateFilter getStartDate() {
+        return startDate;
+    }
+
+    public Optional<LocalDateFilter> optionalStartDate() {
+        return Optional.ofNullable(startDate);
+    }
+
+    public LocalDateFilter startDate() {
+        if (startDate == null) {
+            setStartDate(new LocalDateFilter());
+        }
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateFilter startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDateFilter getEndDate() {
+        return endDate;
+    }
+
+    public Optional<LocalDateFilter> optionalEndDate() {
+        return Optional.ofNullable(endDate);
+    }
+
+    public LocalDateFilter endDate() {
+        if (endDate == null) {
+            setEndDate(new LocalDateFilter());
+        }
+        return endDate;
+    }
+
+    public void setEndDate(LocalDateFilter endDate) {
+        this.endDate = endDate;
+    }
+
+    public LongFilter getMotorbikeId() {
+        return motorbikeId;
+    }
+
+    public Optional<LongFilter> optionalMotorbikeId() {
+        return Optional.ofNullable(motorbikeId);
+    }
+
+    public LongFilter motorbikeId() {
+        if (motorbikeId == null) {
+            setMotorbikeId(new LongFilter());
+        }
+        return motorbikeId;
+    }
+
+    public void setMotorbikeId(LongFilter motorbikeId) {
+        this.motorbikeId = motorbikeId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MaintenanceCriteria that = (MaintenanceCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(description, that.description) &&
+            Objects.equals(startDate, that.startDate) &&
+            Objects.equals(endDate, that.endDate) &&
+            Objects.equals(motorbikeId, that.motorbikeId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, description, startDate, endDate, motorbikeId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MaintenanceCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalDescription().map(f -> "description=" + f + ", ").orElse("") +
+            optionalStartDate().map(f -> "startDate=" + f + ", ").orElse("") +
+            optionalEndDate().map(f -> "endDate=" + f + ", ").orElse("") +
+            optionalMotorbikeId().map(f -> "motorbikeId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,245 @@
+package com.mycompany.myapp.service.criteria;
+
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.Motorbike} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.MotorbikeResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /motorbikes?status.equals=AVAILABLE&make.contains=something&id.greaterThan=5}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class MotorbikeCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering BikeStatus
+     */
+    public static class BikeStatusFilter extends Filter<BikeStatus> {
+
+        public BikeStatusFilter() {}
+
+        public BikeStatusFilter(BikeStatusFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public BikeStatusFilter copy() {
+            return new BikeStatusFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter make;
+
+    private StringFilter model;
+
+    private BikeStatusFilter status;
+
+    private LongFilter rentalsId;
+
+    private LongFilter maintenancesId;
+
+    private Boolean distinct;
+
+    public MotorbikeCriteria() {}
+
+    public MotorbikeCriteria(MotorbikeCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.make = other.optionalMake().map(StringFilter::copy).orElse(null);
+        this.model = other.optionalModel().map(StringFilter::copy).orElse(null);
+        this.status = other.optionalStatus().map(BikeStatusFilter::copy).orElse(null);
+        this.rentalsId = other.optionalRentalsId().map(LongFilter::copy).orElse(null);
+        this.maintenancesId = other.optionalMaintenancesId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public MotorbikeCriteria copy() {
+        return new MotorbikeCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getMake() {
+        return make;
+    }
+
+    public Optional<StringFilter> optionalMake() {
+        return Optional.ofNullable(make);
+    }
+
+    public StringFilter make() {
+        if (make == null) {
+            setMake(new StringFilter());
+        }
+        return make;
+    }
+
+    public void setMake(StringFilter make) {
+        this.make = make;
+    }
+
+    public StringFilter getModel() {
+        return model;
+    }
+
+    public Optional<StringFilter> optionalModel() {
+        return Optional.ofNullable(model);
+    }
+
+    public StringFilter model() {
+        if (model == null) {
+            setModel(new StringFilter());
+        }
+        return model;
+    }
+
+    public void setModel(StringFilter model) {
+        this.model = model;
+    }
+
+    public BikeStatusFilter getStatus() {
+        return status;
+    }
+
+    public Optional<BikeStatusFilter> optionalStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    public BikeStatusFilter status() {
+        if (status == null) {
+            setStatus(new BikeStatusFilter());
+        }
+        return status;
+    }
+
+    public void setStatus(BikeStatusFilter status) {
+        this.status = status;
+    }
+
+    public LongFilter getRentalsId() {
+        return rentalsId;
+    }
+
+    public Optional<LongFilter> optionalRentalsId() {
+        return Optional.ofNullable(rentalsId);
+    }
+
+    public LongFilter rentalsId() {
+        if (rentalsId == null) {
+            setRentalsId(new LongFilter());
+        }
+        return rentalsId;
+    }
+
+    public void setRentalsId(LongFilter rentalsId) {
+        this.rentalsId = rentalsId;
+    }
+
+    public LongFilter getMaintenancesId() {
+        return maintenancesId;
+    }
+
+    public Optional<LongFilter> optionalMaintenancesId() {
+        return Optional.ofNullable(maintenancesId);
+    }
+
+    public LongFilter maintenancesId() {
+        if (maintenancesId == null) {
+            setMaintenancesId(new LongFilter());
+        }
+        return maintenancesId;
+    }
+
+    public void setMaintenancesId(LongFilter maintenancesId) {
+        this.maintenancesId = maintenancesId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MotorbikeCriteria that = (MotorbikeCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(make, that.make) &&
+            Objects.equals(model, that.model) &&
+            Objects.equals(status, that.status) &&
+            Objects.equals(rentalsId, that.rentalsId) &&
+            Objects.equals(maintenancesId, that.maintenancesId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, make, model, status, rentalsId, maintenancesId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MotorbikeCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalMake().map(f -> "make=" + f + ", ").orElse("") +
+            optionalModel().map(f -> "model=" + f + ", ").orElse("") +
+            optionalStatus().map(f -> "status=" + f + ", ").orElse("") +
+            optionalRentalsId().map(f -> "rentalsId=" + f + ", ").orElse("") +
+            optionalMaintenancesId().map(f -> "maintenancesId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,227 @@
+package com.mycompany.myapp.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.Rental} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.RentalResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /rentals?startDate.greaterThanOrEqual=2024-01-01&customerId.equals=5&returnDate.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class RentalCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private LocalDateFilter startDate;
+
+    private LocalDateFilter dueDate;
+
+    private LocalDateFilter returnDate;
+
+    private LongFilter customerId;
+
+    private LongFilter motorbikeId;
+
+    private Boolean distinct;
+
+    public RentalCriteria() {}
+
+    public RentalCriteria(RentalCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.startDate = other.optionalStartDate().map(LocalDateFilter::copy).orElse(null);
+        this.dueDate = other.optionalDueDate().map(LocalDateFilter::copy).orElse(null);
+        this.returnDate = other.optionalReturnDate().map(LocalDateFilter::copy).orElse(null);
+        this.customerId = other.optionalCustomerId().map(LongFilter::copy).orElse(null);
+        this.motorbikeId = other.optionalMotorbikeId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public RentalCriteria copy() {
+        return new RentalCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public LocalDateFilter getStartDate() {
+        return startDate;
+    }
+
+    public Optional<LocalDateFilter> optionalStartDate() {
+        return Optional.ofNullable(startDate);
+    }
+
+    public LocalDateFilter startDate() {
+        if (startDate == null) {
+            setStartDate(new LocalDateFilter());
+        }
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateFilter startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDateFilter getDueDate() {
+        return dueDate;
+    }
+
+    public Optional<LocalDateFilter> optionalDueDate() {
+        return Optional.ofNullable(dueDate);
+    }
+
+    public LocalDateFilter dueDate() {
+        if (dueDate == null) {
+            setDueDate(new LocalDateFilter());
+        }
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateFilter dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public LocalDateFilter getReturnDate() {
+        return returnDate;
+    }
+
+    public Optional<LocalDateFilter> optionalReturnDate() {
+        return Optional.ofNullable(returnDate);
+    }
+
+    public LocalDateFilter returnDate() {
+        if (returnDate == null) {
+            setReturnDate(new LocalDateFilter());
+        }
+        return returnDate;
+    }
+
+    public void setReturnDate(LocalDateFilter returnDate) {
+        this.returnDate = returnDate;
+    }
+
+    public LongFilter getCustomerId() {
+        return customerId;
+    }
+
+    public Optional<LongFilter> optionalCustomerId() {
+        return Optional.ofNullable(customerId);
+    }
+
+    public LongFilter customerId() {
+        if (customerId == null) {
+            setCustomerId(new LongFilter());
+        }
+        return customerId;
+    }
+
+    public void setCustomerId(LongFilter customerId) {
+        this.customerId = customerId;
+    }
+
+    public LongFilter getMotorbikeId() {
+        return motorbikeId;
+    }
+
+    public Optional<LongFilter> optionalMotorbikeId() {
+        return Optional.ofNullable(motorbikeId);
+    }
+
+    public LongFilter motorbikeId() {
+        if (motorbikeId == null) {
+            setMotorbikeId(new LongFilter());
+        }
+        return motorbikeId;
+    }
+
+    public void setMotorbikeId(LongFilter motorbikeId) {
+        this.motorbikeId = motorbikeId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RentalCriteria that = (RentalCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(startDate, that.startDate) &&
+            Objects.equals(dueDate, that.dueDate) &&
+            Objects.equals(returnDate, that.returnDate) &&
+            Objects.equals(customerId, that.customerId) &&
+            Objects.equals(motorbikeId, that.motorbikeId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, startDate, dueDate, returnDate, customerId, motorbikeId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "RentalCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalStartDate().map(f -> "startDate=" + f + ", ").orElse("") +
+            optionalDueDate().map(f -> "dueDate=" + f + ", ").orElse("") +
+            optionalReturnDate().map(f -> "returnDate=" + f + ", ").orElse("") +
+            optionalCustomerId().map(f -> "customerId=" + f + ", ").orElse("") +
+            optionalMotorbikeId().map(f -> "motorbikeId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
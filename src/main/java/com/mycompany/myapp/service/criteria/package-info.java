@@ -0,0 +1,4 @@
+/**
+ * Criteria used to filter entities.
+ */
+package com.mycompany.myapp.service.criteria;
@@ -0,0 +1,59 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO representing one row of a motorbike import. The status is kept as text so that an unknown value only fails its row.
+ */
+public class MotorbikeImportDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String make;
+    private String model;
+    private String status;
+
+    public MotorbikeImportDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public MotorbikeImportDTO(String make, String model, String status) {
+        this.make = make;
+        this.model = model;
+        this.status = status;
+    }
+
+    public String getMake() {
+        return make;
+    }
+
+    public void setMake(String make) {
+        this.make = make;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MotorbikeImportDTO{" +
+            "make='" + make + "'" +
+            ", model='" + model + "'" +
+            ", status='" + status + "'" +
+            "}";
+    }
+}
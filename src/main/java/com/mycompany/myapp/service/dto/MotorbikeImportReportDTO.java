@@ -0,0 +1,122 @@
+package com.mycompany.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of a motorbike import: the counts, and for each row, in order, its id or its error.
+ */
+public class MotorbikeImportReportDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int created;
+    private int failed;
+    private List<Row> rows = new ArrayList<>();
+
+    public MotorbikeImportReportDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public void addCreated(int index, Long id) {
+        created++;
+        rows.add(new Row(index, id, null));
+    }
+
+    public void addFailed(int index, String error) {
+        failed++;
+        rows.add(new Row(index, null, error));
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<Row> rows) {
+        this.rows = rows;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MotorbikeImportReportDTO{" +
+            "created=" + created +
+            ", failed=" + failed +
+            "}";
+    }
+
+    /**
+     * The outcome of one row, {@code index} being its position in the import, starting at 0.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Row implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int index;
+        private Long id;
+        private String error;
+
+        public Row() {
+            // Empty constructor needed for Jackson.
+        }
+
+        public Row(int index, Long id, String error) {
+            this.index = index;
+            this.id = id;
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "Row{" +
+                "index=" + index +
+                ", id=" + id +
+                ", error='" + error + "'" +
+                "}";
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * A DTO representing one rental to price in a batch: a motorbike, a period and an optional pricing strategy.
+ */
+public class PriceQuoteDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long motorbikeId;
+    private LocalDate start;
+    private LocalDate due;
+    private String strategy;
+
+    public PriceQuoteDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public PriceQuoteDTO(Long motorbikeId, LocalDate start, LocalDate due, String strategy) {
+        this.motorbikeId = motorbikeId;
+        this.start = start;
+        this.due = due;
+        this.strategy = strategy;
+    }
+
+    public Long getMotorbikeId() {
+        return motorbikeId;
+    }
+
+    public void setMotorbikeId(Long motorbikeId) {
+        this.motorbikeId = motorbikeId;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public void setStart(LocalDate start) {
+        this.start = start;
+    }
+
+    public LocalDate getDue() {
+        return due;
+    }
+
+    public void setDue(LocalDate due) {
+        this.due = due;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PriceQuoteDTO{" +
+            "motorbikeId=" + motorbikeId +
+            ", start='" + start + "'" +
+            ", due='" + due + "'" +
+            ", strategy='" + strategy + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,137 @@
+package com.mycompany.myapp.stratergy;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.Rental;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pricing walking the calendar: each day is charged its weekday or weekend rate, times the multipliers of the seasons
+ * it falls in. The make and model of the motorbike then scale the total, the longest matching long-rental discount
+ * is subtracted, and the days between the due date and the return date are charged with the late-return multiplier.
+ * <p>
+ * The rules are compiled once into a {@link DayRateTable}: prices are computed in cents, and only the result is a
+ * {@link BigDecimal}.
+ */
+@Component("calendarPricing")
+public class CalendarPricingStrategy implements PricingStrategy1 {
+
+    private static final DateTimeFormatter SEASON_DAY_FORMAT = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final DayRateTable dayRateTable;
+
+    private final Map<String, Long> modelBasisPoints = new HashMap<>();
+
+    /**
+     * Minimum rental days of each discount, by ascending days, and the matching discounts in basis points.
+     */
+    private final int[] discountMinDays;
+
+    private final long[] discountBasisPoints;
+
+    private final long lateReturnBasisPoints;
+
+    public CalendarPricingStrategy(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Pricing pricing = applicationProperties.getPricing();
+
+        int[] seasonBasisPoints = new int[366];
+        Arrays.fill(seasonBasisPoints, DayRateTable.BASIS_POINTS);
+        for (ApplicationProperties.Pricing.Season season : pricing.getSeasons()) {
+            int from = DayRateTable.calendarIndex(MonthDay.parse(season.getFrom(), SEASON_DAY_FORMAT));
+            int to = DayRateTable.calendarIndex(MonthDay.parse(season.getTo(), SEASON_DAY_FORMAT));
+            long multiplier = toBasisPoints(season.getMultiplier());
+            int i = from - 1;
+            do {
+                i = (i + 1) % seasonBasisPoints.length;
+                seasonBasisPoints[i] = (int) DayRateTable.applyBasisPoints(seasonBasisPoints[i], multiplier);
+            } while (i != to);
+        }
+        this.dayRateTable = new DayRateTable(toCents(pricing.getWeekdayRate()), toCents(pricing.getWeekendRate()), seasonBasisPoints);
+
+        pricing
+            .getModelMultipliers()
+            .forEach((key, multiplier) -> modelBasisPoints.put(key.toLowerCase(Locale.ROOT), toBasisPoints(multiplier)));
+
+        ApplicationProperties.Pricing.LongRentalDiscount[] discounts = pricing
+            .getLongRentalDiscounts()
+            .stream()
+            .sorted(Comparator.comparingInt(ApplicationProperties.Pricing.LongRentalDiscount::getMinDays))
+            .toArray(ApplicationProperties.Pricing.LongRentalDiscount[]::new);
+        this.discountMinDays = new int[discounts.length];
+        this.discountBasisPoints = new long[discounts.length];
+        for (int i = 0; i < discounts.length; i++) {
+            discountMinDays[i] = discounts[i].getMinDays();
+            discountBasisPoints[i] = discounts[i].getPercent().movePointRight(2).longValueExact();
+        }
+
+        this.lateReturnBasisPoints = toBasisPoints(pricing.getLateReturnMultiplier());
+    }
+
+    @Override
+    public BigDecimal calculatePrice(Rental rental) {
+        return BigDecimal.valueOf(
+            priceInCents(rental.getStartDate(), rental.getDueDate(), rental.getReturnDate(), rental.getMotorbike()),
+            2
+        );
+    }
+
+    /**
+     * Get the price of a rental.
+     *
+     * @param startDate the first rented day.
+     * @param dueDate the day the motorbike is due back, not charged.
+     * @param returnDate the day the motorbike was returned, or {@code null}.
+     * @param motorbike the rented motorbike, or {@code null} if unknown.
+     * @return the price in cents.
+     */
+    public long priceInCents(LocalDate startDate, LocalDate dueDate, LocalDate returnDate, Motorbike motorbike) {
+        long modelMultiplier = modelBasisPoints(motorbike);
+        long cents = DayRateTable.applyBasisPoints(dayRateTable.sum(startDate, dueDate), modelMultiplier);
+        cents -= DayRateTable.applyBasisPoints(cents, discountBasisPoints(ChronoUnit.DAYS.between(startDate, dueDate)));
+        if (returnDate != null && returnDate.isAfter(dueDate)) {
+            long late = DayRateTable.applyBasisPoints(dayRateTable.sum(dueDate, returnDate), modelMultiplier);
+            cents += DayRateTable.applyBasisPoints(late, lateReturnBasisPoints);
+        }
+        return cents;
+    }
+
+    private long modelBasisPoints(Motorbike motorbike) {
+        if (motorbike == null || motorbike.getMake() == null) {
+            return DayRateTable.BASIS_POINTS;
+        }
+        String make = motorbike.getMake().toLowerCase(Locale.ROOT);
+        if (motorbike.getModel() != null) {
+            Long model = modelBasisPoints.get(make + "/" + motorbike.getModel().toLowerCase(Locale.ROOT));
+            if (model != null) {
+                return model;
+            }
+        }
+        return modelBasisPoints.getOrDefault(make, (long) DayRateTable.BASIS_POINTS);
+    }
+
+    private long discountBasisPoints(long days) {
+        long discount = 0;
+        for (int i = 0; i < discountMinDays.length && discountMinDays[i] <= days; i++) {
+            discount = discountBasisPoints[i];
+        }
+        return discount;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private static long toBasisPoints(BigDecimal multiplier) {
+        return multiplier.movePointRight(4).longValueExact();
+    }
+}
@@ -0,0 +1,103 @@
+package com.mycompany.myapp.stratergy;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rental rate of every day, in cents, with the weekday/weekend rates and the seasonal multipliers already applied.
+ * <p>
+ * Each year is compiled into the running sum of its day rates, so that the rate of any range of days is the
+ * difference of two array entries per year it spans. The first {@value #MAX_CACHED_YEARS} years priced are kept, the
+ * other ones being compiled again on each use, so that unusual dates can't grow the table.
+ */
+final class DayRateTable {
+
+    static final int BASIS_POINTS = 10_000;
+
+    /**
+     * Days of a leap year, indexing the seasonal multipliers by month and day.
+     */
+    private static final int CALENDAR_DAYS = 366;
+
+    static final int MAX_CACHED_YEARS = 64;
+
+    private final long weekdayCents;
+
+    private final long weekendCents;
+
+    private final int[] seasonBasisPoints;
+
+    private final Map<Integer, long[]> cumulativeCentsByYear = new ConcurrentHashMap<>();
+
+    /**
+     * @param weekdayCents the rate from Monday to Friday.
+     * @param weekendCents the rate on Saturday and Sunday.
+     * @param seasonBasisPoints the multiplier of each day of a leap year, in basis points.
+     */
+    DayRateTable(long weekdayCents, long weekendCents, int[] seasonBasisPoints) {
+        if (seasonBasisPoints.length != CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Expected " + CALENDAR_DAYS + " season multipliers, got " + seasonBasisPoints.length);
+        }
+        this.weekdayCents = weekdayCents;
+        this.weekendCents = weekendCents;
+        this.seasonBasisPoints = seasonBasisPoints.clone();
+    }
+
+    static int calendarIndex(MonthDay monthDay) {
+        return monthDay.atYear(2000).getDayOfYear() - 1;
+    }
+
+    static long applyBasisPoints(long cents, long basisPoints) {
+        return (cents * basisPoints + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+
+    /**
+     * Get the sum of the day rates from {@code from} inclusive to {@code to} exclusive.
+     *
+     * @param from the first day.
+     * @param to the day after the last day.
+     * @return the sum in cents, 0 if the range is empty.
+     */
+    long sum(LocalDate from, LocalDate to) {
+        if (!from.isBefore(to)) {
+            return 0;
+        }
+        long total = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            long[] cumulative = cumulative(year);
+            int start = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int end = year == to.getYear() ? to.getDayOfYear() - 1 : cumulative.length - 1;
+            total += cumulative[end] - cumulative[start];
+        }
+        return total;
+    }
+
+    private long[] cumulative(int year) {
+        long[] cumulative = cumulativeCentsByYear.get(year);
+        if (cumulative == null) {
+            cumulative = compile(year);
+            if (cumulativeCentsByYear.size() < MAX_CACHED_YEARS) {
+                cumulativeCentsByYear.putIfAbsent(year, cumulative);
+            }
+        }
+        return cumulative;
+    }
+
+    int cachedYears() {
+        return cumulativeCentsByYear.size();
+    }
+
+    private long[] compile(int year) {
+        LocalDate day = LocalDate.ofYearDay(year, 1);
+        long[] cumulative = new long[day.lengthOfYear() + 1];
+        for (int i = 0; i < day.lengthOfYear(); i++, day = day.plusDays(1)) {
+            DayOfWeek dayOfWeek = day.getDayOfWeek();
+            long cents = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY ? weekendCents : weekdayCents;
+            cumulative[i + 1] = cumulative[i] + applyBasisPoints(cents, seasonBasisPoints[calendarIndex(MonthDay.from(day))]);
+        }
+        return cumulative;
+    }
+}
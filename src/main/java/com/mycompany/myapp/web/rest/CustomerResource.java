@@ -2,7 +2,10 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Customer;
 import com.mycompany.myapp.repository.CustomerRepository;
+import com.mycompany.myapp.service.CustomerQueryService;
 import com.mycompany.myapp.service.CustomerService;
+import com.mycompany.myapp.service.criteria.CustomerCriteria;
+import com.mycompany.myapp.service.FetchView;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -14,9 +17,14 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -37,16 +45,23 @@ public class CustomerResource {
 
     private final CustomerRepository customerRepository;
 
-    public CustomerResource(CustomerService customerService, CustomerRepository customerRepository) {
+    private final CustomerQueryService customerQueryService;
+
+    public CustomerResource(
+        CustomerService customerService,
+        CustomerRepository customerRepository,
+        CustomerQueryService customerQueryService
+    ) {
         this.customerService = customerService;
         this.customerRepository = customerRepository;
+        this.customerQueryService = customerQueryService;
     }
 
     /**
      * {@code POST  /customers} : Create a new customer.
      *
      * @param customer the customer to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new customer, or with status {@code 400 (Bad Request)} if the customer has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new customer, or with status {@code 400 (Bad Request)} if the customer has already an ID or no password.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("")
@@ -55,6 +70,9 @@ public class CustomerResource {
         if (customer.getId() != null) {
             throw new BadRequestAlertException("A new customer cannot already have an ID", ENTITY_NAME, "idexists");
         }
+        if (customer.getPassword() == null) {
+            throw new BadRequestAlertException("A new customer must have a password", ENTITY_NAME, "passwordnull");
+        }
         customer = customerService.save(customer);
         return ResponseEntity.created(new URI("/api/customers/" + customer.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, customer.getId().toString()))
@@ -62,7 +80,7 @@ public class CustomerResource {
     }
 
     /**
-     * {@code PUT  /customers/:id} : Updates an existing customer.
+     * {@code PUT  /customers/:id} : Updates an existing customer, keeping its password when none is sent.
      *
      * @param id the id of the customer to save.
      * @param customer the customer to update.
@@ -133,24 +151,47 @@ public class CustomerResource {
     /**
      * {@code GET  /customers} : get all the customers.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
+     * @param view the fetch view: {@code summary} (default), {@code withRentals} or {@code full}.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of customers in body.
      */
     @GetMapping("")
-    public List<Customer> getAllCustomers() {
-        log.debug("REST request to get all Customers");
-        return customerService.findAll();
+    public ResponseEntity<List<Customer>> getAllCustomers(
+        CustomerCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "view", required = false) String view
+    ) {
+        log.debug("REST request to get Customers by criteria: {}", criteria);
+
+        Page<Customer> page = customerQueryService.findByCriteria(criteria, pageable, toFetchView(view));
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /customers/count} : count all the customers.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countCustomers(CustomerCriteria criteria) {
+        log.debug("REST request to count Customers by criteria: {}", criteria);
+        return ResponseEntity.ok().body(customerQueryService.countByCriteria(criteria));
     }
 
     /**
      * {@code GET  /customers/:id} : get the "id" customer.
      *
      * @param id the id of the customer to retrieve.
+     * @param view the fetch view: {@code summary} (default), {@code withRentals} or {@code full}.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the customer, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Customer> getCustomer(@PathVariable("id") Long id) {
-        log.debug("REST request to get Customer : {}", id);
-        Optional<Customer> customer = customerService.findOne(id);
+    public ResponseEntity<Customer> getCustomer(@PathVariable("id") Long id, @RequestParam(name = "view", required = false) String view) {
+        log.debug("REST request to get Customer : {} with view {}", id, view);
+        Optional<Customer> customer = customerService.findOne(id, toFetchView(view));
         return ResponseUtil.wrapOrNotFound(customer);
     }
 
@@ -168,4 +209,8 @@ public class CustomerResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private FetchView toFetchView(String view) {
+        return FetchView.fromValue(view).orElseThrow(() -> new BadRequestAlertException("Invalid view", ENTITY_NAME, "viewinvalid"));
+    }
 }
@@ -2,7 +2,9 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Maintenance;
 import com.mycompany.myapp.repository.MaintenanceRepository;
+import com.mycompany.myapp.service.MaintenanceQueryService;
 import com.mycompany.myapp.service.MaintenanceService;
+import com.mycompany.myapp.service.criteria.MaintenanceCriteria;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -14,9 +16,14 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -37,9 +44,16 @@ public class MaintenanceResource {
 
     private final MaintenanceRepository maintenanceRepository;
 
-    public MaintenanceResource(MaintenanceService maintenanceService, MaintenanceRepository maintenanceRepository) {
+    private final MaintenanceQueryService maintenanceQueryService;
+
+    public MaintenanceResource(
+        MaintenanceService maintenanceService,
+        MaintenanceRepository maintenanceRepository,
+        MaintenanceQueryService maintenanceQueryService
+    ) {
         this.maintenanceService = maintenanceService;
         this.maintenanceRepository = maintenanceRepository;
+        this.maintenanceQueryService = maintenanceQueryService;
     }
 
     /**
@@ -133,12 +147,32 @@ public class MaintenanceResource {
     /**
      * {@code GET  /maintenances} : get all the maintenances.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of maintenances in body.
      */
     @GetMapping("")
-    public List<Maintenance> getAllMaintenances() {
-        log.debug("REST request to get all Maintenances");
-        return maintenanceService.findAll();
+    public ResponseEntity<List<Maintenance>> getAllMaintenances(
+        MaintenanceCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get Maintenances by criteria: {}", criteria);
+
+        Page<Maintenance> page = maintenanceQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /maintenances/count} : count all the maintenances.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countMaintenances(MaintenanceCriteria criteria) {
+        log.debug("REST request to count Maintenances by criteria: {}", criteria);
+        return ResponseEntity.ok().body(maintenanceQueryService.countByCriteria(criteria));
     }
 
     /**
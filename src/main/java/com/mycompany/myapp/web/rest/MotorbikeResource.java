@@ -2,8 +2,12 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Motorbike;
 import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.service.FetchView;
+import com.mycompany.myapp.service.MotorbikeQueryService;
 import com.mycompany.myapp.service.MotorbikeService;
+import com.mycompany.myapp.service.criteria.MotorbikeCriteria;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ConditionalRequestUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -14,9 +18,16 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -30,6 +41,11 @@ public class MotorbikeResource {
 
     private static final String ENTITY_NAME = "motorbike";
 
+    /**
+     * Edited from the admin UI, so always revalidated.
+     */
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -37,9 +53,16 @@ public class MotorbikeResource {
 
     private final MotorbikeRepository motorbikeRepository;
 
-    public MotorbikeResource(MotorbikeService motorbikeService, MotorbikeRepository motorbikeRepository) {
+    private final MotorbikeQueryService motorbikeQueryService;
+
+    public MotorbikeResource(
+        MotorbikeService motorbikeService,
+        MotorbikeRepository motorbikeRepository,
+        MotorbikeQueryService motorbikeQueryService
+    ) {
         this.motorbikeService = motorbikeService;
         this.motorbikeRepository = motorbikeRepository;
+        this.motorbikeQueryService = motorbikeQueryService;
     }
 
     /**
@@ -133,24 +156,52 @@ public class MotorbikeResource {
     /**
      * {@code GET  /motorbikes} : get all the motorbikes.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
+     * @param view the fetch view: {@code summary} (default), {@code withRentals} or {@code full}.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of motorbikes in body.
      */
     @GetMapping("")
-    public List<Motorbike> getAllMotorbikes() {
-        log.debug("REST request to get all Motorbikes");
-        return motorbikeService.findAll();
+    public ResponseEntity<List<Motorbike>> getAllMotorbikes(
+        MotorbikeCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "view", required = false) String view,
+        ServletWebRequest request
+    ) {
+        log.debug("REST request to get Motorbikes by criteria: {}", criteria);
+        FetchView fetchView = toFetchView(view);
+        if (ConditionalRequestUtil.checkNotModified(request, motorbikeQueryService.etag(criteria, fetchView), LIST_CACHE_CONTROL)) {
+            return null;
+        }
+
+        Page<Motorbike> page = motorbikeQueryService.findByCriteria(criteria, pageable, fetchView);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /motorbikes/count} : count all the motorbikes.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countMotorbikes(MotorbikeCriteria criteria) {
+        log.debug("REST request to count Motorbikes by criteria: {}", criteria);
+        return ResponseEntity.ok().body(motorbikeQueryService.countByCriteria(criteria));
     }
 
     /**
      * {@code GET  /motorbikes/:id} : get the "id" motorbike.
      *
      * @param id the id of the motorbike to retrieve.
+     * @param view the fetch view: {@code summary} (default), {@code withRentals} or {@code full}.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the motorbike, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Motorbike> getMotorbike(@PathVariable("id") Long id) {
-        log.debug("REST request to get Motorbike : {}", id);
-        Optional<Motorbike> motorbike = motorbikeService.findOne(id);
+    public ResponseEntity<Motorbike> getMotorbike(@PathVariable("id") Long id, @RequestParam(name = "view", required = false) String view) {
+        log.debug("REST request to get Motorbike : {} with view {}", id, view);
+        Optional<Motorbike> motorbike = motorbikeService.findOne(id, toFetchView(view));
         return ResponseUtil.wrapOrNotFound(motorbike);
     }
 
@@ -168,4 +219,8 @@ public class MotorbikeResource {
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private FetchView toFetchView(String view) {
+        return FetchView.fromValue(view).orElseThrow(() -> new BadRequestAlertException("Invalid view", ENTITY_NAME, "viewinvalid"));
+    }
 }
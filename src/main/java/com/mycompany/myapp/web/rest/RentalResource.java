@@ -1,8 +1,12 @@
 package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.facade.RentalServiceFacade;
 import com.mycompany.myapp.repository.RentalRepository;
+import com.mycompany.myapp.service.RentalCursor;
+import com.mycompany.myapp.service.RentalQueryService;
 import com.mycompany.myapp.service.RentalService;
+import com.mycompany.myapp.service.criteria.RentalCriteria;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -14,9 +18,17 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -30,6 +42,10 @@ public class RentalResource {
 
     private static final String ENTITY_NAME = "rental";
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -37,16 +53,28 @@ public class RentalResource {
 
     private final RentalRepository rentalRepository;
 
-    public RentalResource(RentalService rentalService, RentalRepository rentalRepository) {
+    private final RentalQueryService rentalQueryService;
+
+    private final RentalServiceFacade rentalServiceFacade;
+
+    public RentalResource(
+        RentalService rentalService,
+        RentalRepository rentalRepository,
+        RentalQueryService rentalQueryService,
+        RentalServiceFacade rentalServiceFacade
+    ) {
         this.rentalService = rentalService;
         this.rentalRepository = rentalRepository;
+        this.rentalQueryService = rentalQueryService;
+        this.rentalServiceFacade = rentalServiceFacade;
     }
 
     /**
      * {@code POST  /rentals} : Create a new rental.
      *
      * @param rental the rental to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new rental, or with status {@code 400 (Bad Request)} if the rental has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new rental, or with status {@code 400 (Bad Request)} if the rental has already an ID,
+     * or with status {@code 409 (Conflict)} if its motorbike is already booked during its period.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("")
@@ -55,7 +83,7 @@ public class RentalResource {
         if (rental.getId() != null) {
             throw new BadRequestAlertException("A new rental cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        rental = rentalService.save(rental);
+        rental = rentalServiceFacade.saveRental(rental);
         return ResponseEntity.created(new URI("/api/rentals/" + rental.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, rental.getId().toString()))
             .body(rental);
@@ -68,6 +96,7 @@ public class RentalResource {
      * @param rental the rental to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated rental,
      * or with status {@code 400 (Bad Request)} if the rental is not valid,
+     * or with status {@code 409 (Conflict)} if its motorbike is already booked during its period,
      * or with status {@code 500 (Internal Server Error)} if the rental couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -88,7 +117,7 @@ public class RentalResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        rental = rentalService.update(rental);
+        rental = rentalServiceFacade.updateRental(rental);
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, rental.getId().toString()))
             .body(rental);
@@ -102,6 +131,7 @@ public class RentalResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated rental,
      * or with status {@code 400 (Bad Request)} if the rental is not valid,
      * or with status {@code 404 (Not Found)} if the rental is not found,
+     * or with status {@code 409 (Conflict)} if its motorbike is already booked during its period,
      * or with status {@code 500 (Internal Server Error)} if the rental couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -122,7 +152,7 @@ public class RentalResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<Rental> result = rentalService.partialUpdate(rental);
+        Optional<Rental> result = rentalServiceFacade.partialUpdateRental(rental);
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -133,12 +163,85 @@ public class RentalResource {
     /**
      * {@code GET  /rentals} : get all the rentals.
      *
+     * @param pageable the pagination information.
+     * @param criteria the criteria which the requested entities should match.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of rentals in body.
      */
     @GetMapping("")
-    public List<Rental> getAllRentals() {
-        log.debug("REST request to get all Rentals");
-        return rentalService.findAll();
+    public ResponseEntity<List<Rental>> getAllRentals(
+        RentalCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get Rentals by criteria: {}", criteria);
+
+        Page<Rental> page = rentalQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /rentals/count} : count all the rentals.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countRentals(RentalCriteria criteria) {
+        log.debug("REST request to count Rentals by criteria: {}", criteria);
+        return ResponseEntity.ok().body(rentalQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /rentals/cursor} : get the rentals in {@code (startDate, id)} order, one keyset page at a time.
+     * <p>
+     * Unlike {@code GET /rentals}, reading a deep page costs the same as reading the first one.
+     *
+     * @param after the token returned in the {@code X-Next-Cursor} header of the previous page, absent for the first page.
+     * @param size the maximum number of rentals to return.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of rentals in body, or with status {@code 400 (Bad Request)} if the cursor is invalid.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<List<Rental>> getRentalsAfter(
+        @RequestParam(name = "after", required = false) String after,
+        @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get Rentals after cursor : {}", after);
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestAlertException("Invalid page size", ENTITY_NAME, "sizeinvalid");
+        }
+        RentalCursor cursor;
+        try {
+            cursor = after == null ? null : RentalCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+        }
+
+        Slice<Rental> slice = rentalService.findAfter(cursor, size);
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext()) {
+            String next = RentalCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1)).encode();
+            headers.add(NEXT_CURSOR_HEADER, next);
+            String link = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("after", next).toUriString();
+            headers.add(HttpHeaders.LINK, "<" + link + ">; rel=\"next\"");
+        }
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * {@code GET  /rentals/export} : export all the rentals as newline-delimited JSON.
+     * <p>
+     * The body is streamed while the rentals are read, so the export is never held in memory.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the rentals in body, one per line.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportRentals() {
+        log.debug("REST request to export Rentals");
+        StreamingResponseBody body = rentalService::export;
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"rentals.ndjson\"")
+            .body(body);
     }
 
     /**
@@ -1,14 +1,23 @@
 package com.mycompany.myapp.web.rest.controller;
 
 import com.mycompany.myapp.domain.Customer;
+import com.mycompany.myapp.repository.projection.CustomerSummary;
+import com.mycompany.myapp.service.CustomerQueryService;
 import com.mycompany.myapp.service.CustomerService;
+import com.mycompany.myapp.service.criteria.CustomerCriteria;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -17,9 +26,17 @@ public class CustomerController {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private CustomerQueryService customerQueryService;
+
     @GetMapping("/customers")
-    public List<Customer> getAllCustomers() {
-        return customerService.findAll();
+    public ResponseEntity<List<CustomerSummary>> getAllCustomers(
+        CustomerCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        Page<CustomerSummary> page = customerQueryService.findSummariesByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     @GetMapping("/customers/{id}")
@@ -29,16 +46,21 @@ public class CustomerController {
     }
 
     @PostMapping("/auth")
-    public ResponseEntity<String> authenticate(@RequestBody UserCredentials credentials) {
-        Optional<String> result = customerService.authenticate(credentials.getUsername(), credentials.getPassword());
-        return result
-            .map(
-                res ->
-                    res.equals("Authentication successful")
-                        ? ResponseEntity.ok(res)
-                        : ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(res)
-            )
-            .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unexpected error"));
+    public CompletableFuture<ResponseEntity<String>> authenticate(@RequestBody UserCredentials credentials) {
+        CompletableFuture<CustomerService.AuthenticationResult> result;
+        try {
+            result = customerService.authenticate(credentials.getUsername(), credentials.getPassword());
+        } catch (TaskRejectedException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many pending authentications", e);
+        }
+        return result.thenApply(
+            res ->
+                switch (res) {
+                    case AUTHENTICATED -> ResponseEntity.ok("Authentication successful");
+                    case BAD_CREDENTIALS -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Authentication failed");
+                    case UNKNOWN_EMAIL -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
+                }
+        );
     }
 
     static class UserCredentials {
@@ -3,24 +3,74 @@ package com.mycompany.myapp.web.rest.controller;
 import com.mycompany.myapp.domain.Customer;
 import com.mycompany.myapp.domain.Motorbike;
 import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import com.mycompany.myapp.repository.projection.MotorbikeSummary;
+import com.mycompany.myapp.service.FetchView;
+import com.mycompany.myapp.service.MotorbikeImportService;
+import com.mycompany.myapp.service.MotorbikeQueryService;
 import com.mycompany.myapp.service.MotorbikeService;
+import com.mycompany.myapp.service.criteria.MotorbikeCriteria;
+import com.mycompany.myapp.service.dto.MotorbikeImportDTO;
+import com.mycompany.myapp.service.dto.MotorbikeImportReportDTO;
+import com.mycompany.myapp.web.rest.util.ConditionalRequestUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
 
 @RestController
 @RequestMapping("/api/v1")
 public class MotorbikeController {
 
+    /**
+     * The fleet map polls the list every few seconds: it may reuse a response for that long, then revalidates it.
+     */
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(5)).cachePrivate().mustRevalidate();
+
     @Autowired
     private MotorbikeService motorbikeService;
 
+    @Autowired
+    private MotorbikeQueryService motorbikeQueryService;
+
+    @Autowired
+    private MotorbikeImportService motorbikeImportService;
+
     @GetMapping("/motorbikes")
-    public List<Motorbike> getAllMotorbikes() {
-        return motorbikeService.findAll();
+    public ResponseEntity<List<MotorbikeSummary>> getAllMotorbikes(
+        MotorbikeCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        ServletWebRequest request
+    ) {
+        String etag = motorbikeQueryService.etag(criteria, FetchView.SUMMARY);
+        if (ConditionalRequestUtil.checkNotModified(request, etag, LIST_CACHE_CONTROL)) {
+            return null;
+        }
+        Page<MotorbikeSummary> page = motorbikeQueryService.findSummariesByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    @GetMapping("/motorbikes/available")
+    public List<Motorbike> getAvailableMotorbikes(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return motorbikeService.findAvailable(from, to);
     }
 
     @GetMapping("/motorbikes/{id}")
@@ -41,4 +91,14 @@ public class MotorbikeController {
         Motorbike motorbike = motorbikeService.createAndSaveMotorbike(make, model);
         return ResponseEntity.ok(motorbike);
     }
+
+    @PostMapping(value = "/motorbikes/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MotorbikeImportReportDTO> importMotorbikes(@RequestBody List<MotorbikeImportDTO> motorbikes) {
+        return ResponseEntity.ok(motorbikeImportService.importMotorbikes(motorbikes));
+    }
+
+    @PostMapping(value = "/motorbikes/import", consumes = "text/csv")
+    public ResponseEntity<MotorbikeImportReportDTO> importMotorbikesFromCsv(InputStream csv) throws IOException {
+        return ResponseEntity.ok(motorbikeImportService.importMotorbikes(motorbikeImportService.readCsv(csv)));
+    }
 }
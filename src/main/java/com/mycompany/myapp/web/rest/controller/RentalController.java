@@ -2,45 +2,66 @@ package com.mycompany.myapp.web.rest.controller;
 
 import com.mycompany.myapp.domain.Rental;
 import com.mycompany.myapp.facade.RentalServiceFacade;
-import com.mycompany.myapp.service.RentalService;
-import com.mycompany.myapp.stratergy.PricingStrategy1;
+import com.mycompany.myapp.repository.projection.RentalSummary;
+import com.mycompany.myapp.service.RentalQueryService;
+import com.mycompany.myapp.service.RentalQuoteService;
+import com.mycompany.myapp.service.criteria.RentalCriteria;
+import com.mycompany.myapp.service.dto.PriceQuoteDTO;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
 
 @RestController
 @RequestMapping("/api/v1")
 public class RentalController {
 
-    @Autowired
-    private RentalService rentalService;
+    private static final int MAX_QUOTES_PER_BATCH = 1000;
 
     @Autowired
-    private RentalServiceFacade rentalServiceFacade;
+    private RentalQueryService rentalQueryService;
 
-    private final Map<String, PricingStrategy1> pricingStrategies;
+    @Autowired
+    private RentalQuoteService rentalQuoteService;
 
     @Autowired
-    public RentalController(Map<String, PricingStrategy1> pricingStrategies) {
-        this.pricingStrategies = pricingStrategies;
-    }
+    private RentalServiceFacade rentalServiceFacade;
 
     @PostMapping("/rentals/price")
     public ResponseEntity<BigDecimal> calculateRentalPrice(@RequestBody Rental rental, @RequestParam(required = false) String strategy) {
-        PricingStrategy1 pricingStrategy = pricingStrategies.getOrDefault(strategy, pricingStrategies.get("standardPricing"));
-        BigDecimal price = pricingStrategy.calculatePrice(rental);
+        BigDecimal price = rentalQuoteService.price(strategy, rental);
         return ResponseEntity.ok(price);
     }
 
+    @PostMapping(value = "/rentals/price/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> calculateRentalPrices(@RequestBody List<PriceQuoteDTO> quotes) {
+        if (quotes.size() > MAX_QUOTES_PER_BATCH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_QUOTES_PER_BATCH + " quotes per batch");
+        }
+        StreamingResponseBody body = out -> rentalQuoteService.writeQuotes(quotes, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @GetMapping("/rentals")
-    public List<Rental> getAllRentals() {
-        return rentalService.findAll();
+    public ResponseEntity<List<RentalSummary>> getAllRentals(
+        RentalCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        Page<RentalSummary> page = rentalQueryService.findSummariesByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     @PostMapping("/rentals")
@@ -0,0 +1,32 @@
+package com.mycompany.myapp.web.rest.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Utility class for answering conditional {@code GET} requests before the response body is computed.
+ */
+public final class ConditionalRequestUtil {
+
+    private ConditionalRequestUtil() {}
+
+    /**
+     * Set the {@code ETag} and {@code Cache-Control} headers of the response, and answer with a {@code 304 Not Modified}
+     * if the {@code If-None-Match} header of the request matches the ETag. The handler must then return {@code null}.
+     * <p>
+     * The headers are set on the response itself, not on the returned {@code ResponseEntity}, so that they are sent
+     * with both statuses.
+     *
+     * @param request the current request.
+     * @param etag the quoted ETag of the response body.
+     * @param cacheControl the caching policy of the endpoint.
+     * @return {@code true} if the request was answered with a 304.
+     */
+    public static boolean checkNotModified(ServletWebRequest request, String etag, CacheControl cacheControl) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return request.checkNotModified(etag);
+    }
+}
@@ -0,0 +1,125 @@
+package com.mycompany.myapp.aop.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.service.CustomerService;
+import com.mycompany.myapp.service.MotorbikeService;
+import com.mycompany.myapp.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the {@link MethodTimingAspect}.
+ */
+@IntegrationTest
+class MethodTimingAspectIT {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Autowired
+    private MethodTimingSettings settings;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MotorbikeService motorbikeService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private UserService userService;
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private double sampleRate;
+
+    private Duration slowThreshold;
+
+    @BeforeEach
+    public void init() {
+        sampleRate = settings.getSampleRate();
+        slowThreshold = settings.getSlowThreshold();
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(MethodTimingAspect.class)).addAppender(appender);
+    }
+
+    @AfterEach
+    public void restore() {
+        ((Logger) LoggerFactory.getLogger(MethodTimingAspect.class)).detachAppender(appender);
+        settings.setSampleRate(sampleRate);
+        settings.setSlowThreshold(slowThreshold);
+        settings.setSlowThreshold("MotorbikeService", null);
+        settings.setSlowThreshold("CustomerService", null);
+        settings.setSlowThreshold("UserService", null);
+    }
+
+    @Test
+    void sampledCallsAreRecorded() {
+        settings.setSampleRate(1);
+        motorbikeService.findOne(Long.MAX_VALUE);
+        long count = findOneTimer().count();
+
+        motorbikeService.findOne(Long.MAX_VALUE);
+
+        assertThat(findOneTimer().count()).isEqualTo(count + 1);
+    }
+
+    @Test
+    void unsampledCallsAreNotRecorded() {
+        settings.setSampleRate(1);
+        motorbikeService.findOne(Long.MAX_VALUE);
+        settings.setSampleRate(0);
+        long count = findOneTimer().count();
+
+        motorbikeService.findOne(Long.MAX_VALUE);
+
+        assertThat(findOneTimer().count()).isEqualTo(count);
+    }
+
+    @Test
+    void onlySlowCallsAreLoggedWithTheirArgumentTypes() {
+        settings.setSlowThreshold(Duration.ofHours(1));
+        motorbikeService.findOne(Long.MAX_VALUE);
+        assertThat(appender.list).isEmpty();
+
+        settings.setSlowThreshold("MotorbikeService", Duration.ZERO);
+        motorbikeService.findOne(Long.MAX_VALUE);
+
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .anySatisfy(message ->
+                assertThat(message).startsWith("Slow call: MotorbikeService.findOne()").endsWith("argument types = [Long]")
+            );
+    }
+
+    @Test
+    void passwordsAreNotLogged() throws Exception {
+        settings.setSlowThreshold("CustomerService", Duration.ZERO);
+        settings.setSlowThreshold("UserService", Duration.ZERO);
+
+        customerService.authenticate("unknown@localhost", PASSWORD).get();
+        userService.changePassword(PASSWORD, PASSWORD);
+
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .anySatisfy(message -> assertThat(message).startsWith("Slow call: CustomerService.authenticate()"))
+            .anySatisfy(message -> assertThat(message).startsWith("Slow call: UserService.changePassword()"))
+            .noneSatisfy(message -> assertThat(message).contains(PASSWORD));
+    }
+
+    private Timer findOneTimer() {
+        return meterRegistry.get(MethodTimingAspect.TIMER_NAME).tag("class", "MotorbikeService").tag("method", "findOne").timer();
+    }
+}
@@ -0,0 +1,85 @@
+package com.mycompany.myapp.aop.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mycompany.myapp.repository.AuthorityRepository;
+import com.mycompany.myapp.repository.CustomerRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.CustomerService;
+import com.mycompany.myapp.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Tests the masking of the sensitive arguments by the {@link MethodTimingAspect}, when the argument values are logged.
+ */
+class MethodTimingAspectTest {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private MethodTimingAspect aspect;
+
+    @BeforeEach
+    public void init() {
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(MethodTimingAspect.class)).addAppender(appender);
+        aspect = new MethodTimingAspect(new SimpleMeterRegistry(), new MethodTimingSettings(0, Duration.ZERO, Map.of()), true, 100);
+    }
+
+    @AfterEach
+    public void restore() {
+        ((Logger) LoggerFactory.getLogger(MethodTimingAspect.class)).detachAppender(appender);
+    }
+
+    @Test
+    void sensitiveArgumentsAreMasked() {
+        UserRepository userRepository = mock(UserRepository.class);
+        UserService userService = proxy(
+            new UserService(userRepository, mock(PasswordEncoder.class), mock(AuthorityRepository.class), mock(CacheManager.class))
+        );
+
+        userService.changePassword(PASSWORD, PASSWORD);
+        userService.requestPasswordReset("john@localhost");
+
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .anySatisfy(message -> assertThat(message).startsWith("Slow call: UserService.changePassword()").endsWith("= [******, ******]"))
+            .anySatisfy(message ->
+                assertThat(message).startsWith("Slow call: UserService.requestPasswordReset()").endsWith("= [john@localhost]")
+            )
+            .noneSatisfy(message -> assertThat(message).contains(PASSWORD));
+    }
+
+    @Test
+    void argumentsOfSensitiveClassesAreMasked() {
+        CustomerService customerService = proxy(new CustomerService(mock(CustomerRepository.class), mock(PasswordEncoder.class)));
+
+        customerService.authenticate("john@localhost", PASSWORD);
+
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .anySatisfy(message -> assertThat(message).startsWith("Slow call: CustomerService.authenticate()").endsWith("[******, ******]"))
+            .noneSatisfy(message -> assertThat(message).contains(PASSWORD));
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
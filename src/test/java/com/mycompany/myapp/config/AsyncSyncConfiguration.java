@@ -1,5 +1,7 @@
 package com.mycompany.myapp.config;
 
+import com.mycompany.myapp.service.CustomerService;
+import com.mycompany.myapp.service.RentalQuoteService;
 import java.util.concurrent.Executor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,4 +14,14 @@ public class AsyncSyncConfiguration {
     public Executor taskExecutor() {
         return new SyncTaskExecutor();
     }
+
+    @Bean(name = CustomerService.PASSWORD_HASHING_EXECUTOR)
+    public Executor passwordHashingExecutor() {
+        return new SyncTaskExecutor();
+    }
+
+    @Bean(name = RentalQuoteService.QUOTE_PRICING_EXECUTOR)
+    public Executor quotePricingExecutor() {
+        return new SyncTaskExecutor();
+    }
 }
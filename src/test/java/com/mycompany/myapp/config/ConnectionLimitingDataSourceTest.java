@@ -0,0 +1,83 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource targetDataSource;
+
+    private Connection targetConnection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    public void init() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        targetConnection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void permitIsReleasedOnceWhenTheConnectionIsClosed() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        assertThat(connection.isClosed()).isTrue();
+        verify(targetConnection, times(1)).close();
+    }
+
+    @Test
+    void callsAreDelegatedToTheConnection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        connection.setAutoCommit(false);
+
+        verify(targetConnection).setAutoCommit(false);
+        assertThat(connection).isEqualTo(connection).isNotEqualTo(targetConnection);
+    }
+
+    @Test
+    void unwrappingToADataSourceKeepsTheLimit() throws SQLException {
+        assertThat(dataSource.unwrap(DataSource.class)).isSameAs(dataSource);
+        assertThat(dataSource.isWrapperFor(DataSource.class)).isTrue();
+
+        dataSource.unwrap(DataSource.class).getConnection();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnectionFailsOnceTheTimeoutIsReached() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void permitIsReleasedWhenTheTargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("Pool exhausted");
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,66 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.OrderComparator;
+
+/**
+ * Tests the order in which the {@link VirtualThreadsConfiguration} and {@link JpaStatisticsConfiguration} post-processors
+ * wrap the {@code DataSource}.
+ */
+class DataSourcePostProcessorsTest {
+
+    private final HikariDataSource hikariDataSource = new HikariDataSource();
+
+    @AfterEach
+    public void cleanup() {
+        hikariDataSource.close();
+    }
+
+    @Test
+    void statementsAreCountedAroundTheConnectionLimit() {
+        Object dataSource = postProcess(JpaStatisticsConfiguration.DATA_SOURCE_BEAN_NAME);
+
+        assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+        Object limited = ((ProxyDataSource) dataSource).getDataSource();
+        assertThat(limited).isInstanceOf(ConnectionLimitingDataSource.class);
+        assertThat(((ConnectionLimitingDataSource) limited).getTargetDataSource()).isSameAs(hikariDataSource);
+    }
+
+    @Test
+    void otherDataSourcesAreNotCounted() {
+        Object dataSource = postProcess("otherDataSource");
+
+        assertThat(dataSource).isInstanceOf(ConnectionLimitingDataSource.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object postProcess(String beanName) {
+        ObjectProvider<ApplicationProperties> applicationProperties = mock(ObjectProvider.class);
+        when(applicationProperties.getObject()).thenReturn(new ApplicationProperties());
+        // Registered in reverse order, sorted like the container does
+        List<BeanPostProcessor> postProcessors = new ArrayList<>(
+            List.of(
+                JpaStatisticsConfiguration.statementCountingDataSourcePostProcessor(applicationProperties),
+                VirtualThreadsConfiguration.connectionLimitingDataSourcePostProcessor()
+            )
+        );
+        postProcessors.sort(OrderComparator.INSTANCE);
+
+        Object bean = hikariDataSource;
+        for (BeanPostProcessor postProcessor : postProcessors) {
+            bean = postProcessor.postProcessAfterInitialization(bean, beanName);
+        }
+        return bean;
+    }
+}
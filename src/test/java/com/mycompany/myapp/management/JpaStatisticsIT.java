@@ -0,0 +1,132 @@
+package com.mycompany.myapp.management;
+
+import static com.mycompany.myapp.management.QueryCountAssertions.assertMaxEntitiesLoaded;
+import static com.mycompany.myapp.management.QueryCountAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the JPA statistics: the counters, the per-request summaries and the {@link JpaStatisticsEndpoint}.
+ * <p>
+ * Not transactional: the entities are loaded by the transactions of the repositories.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class JpaStatisticsIT {
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    @Autowired
+    private MotorbikeRepository motorbikeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JpaStatisticsEndpoint jpaStatisticsEndpoint;
+
+    private Motorbike motorbike;
+
+    @BeforeEach
+    public void init() {
+        motorbike = motorbikeRepository.save(new Motorbike().make("StatisticsMake").model("Model").status(BikeStatus.AVAILABLE));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        motorbikeRepository.delete(motorbike);
+    }
+
+    @Test
+    void statementsAndLoadedEntitiesAreCounted() throws Exception {
+        try (JpaCounters.Scope outer = JpaCounters.open()) {
+            List<Motorbike> motorbikes = assertStatementCount(1, () -> motorbikeRepository.findAll());
+
+            assertThat(outer.getStatements()).isEqualTo(1);
+            assertThat(outer.getEntitiesLoaded()).isEqualTo(motorbikes.size());
+        }
+    }
+
+    @Test
+    void assertionsFailOnRegressions() {
+        assertThatThrownBy(() -> assertStatementCount(0, () -> motorbikeRepository.findAll())).isInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> assertMaxEntitiesLoaded(0, () -> motorbikeRepository.findAll())).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void requestsAreRecordedByEndpoint() throws Exception {
+        motorbikeRepository.findAll();
+        restMockMvc.perform(get("/api/v1/motorbikes")).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry
+            .get(JpaStatisticsFilter.STATEMENTS_SUMMARY_NAME)
+            .tag("method", "GET")
+            .tag("uri", "/api/v1/motorbikes")
+            .summary();
+        assertThat(statements.count()).isPositive();
+        restMockMvc
+            .perform(get("/management/jpa-stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totals.statements").isNumber())
+            .andExpect(jsonPath("$.entities[?(@.entity == '" + Motorbike.class.getName() + "')]").exists())
+            .andExpect(jsonPath("$.endpoints[?(@.uri == '/api/v1/motorbikes')].requests").exists());
+    }
+
+    @Test
+    void asynchronousRequestsAreRecordedOnceComplete() throws Exception {
+        Optional<DistributionSummary> before = exportStatements();
+        double statementsBefore = before.map(DistributionSummary::totalAmount).orElse(0.0);
+        long requestsBefore = before.map(DistributionSummary::count).orElse(0L);
+
+        // The rentals are read on another thread, by the StreamingResponseBody
+        MvcResult result = restMockMvc.perform(get("/api/rentals/export")).andExpect(request().asyncStarted()).andReturn();
+        restMockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        DistributionSummary statements = exportStatements().orElseThrow();
+        assertThat(statements.count()).isEqualTo(requestsBefore + 1);
+        assertThat(statements.totalAmount()).isGreaterThan(statementsBefore);
+    }
+
+    private Optional<DistributionSummary> exportStatements() {
+        return Optional.ofNullable(
+            meterRegistry.find(JpaStatisticsFilter.STATEMENTS_SUMMARY_NAME).tag("method", "GET").tag("uri", "/api/rentals/export").summary()
+        );
+    }
+
+    @Test
+    void statisticsAreReset() throws Exception {
+        motorbikeRepository.findAll();
+        Instant before = Instant.now();
+
+        restMockMvc.perform(delete("/management/jpa-stats")).andExpect(status().isNoContent());
+
+        assertThat(jpaStatisticsEndpoint.statistics().totals().since()).isAfterOrEqualTo(before);
+    }
+}
@@ -0,0 +1,89 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Assertions failing a test when an action executes more JDBC statements, or loads more entities, than expected.
+ * <p>
+ * The statements are counted by the JPA statistics, enabled in the test configuration. Within a transactional test,
+ * flush the pending changes before counting, so that they are not counted as statements of the action.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {}
+
+    /**
+     * An action of a test.
+     *
+     * @param <T> the type of its result.
+     */
+    @FunctionalInterface
+    public interface Action<T> {
+        T call() throws Exception;
+    }
+
+    /**
+     * Count the JDBC statements executed by an action.
+     *
+     * @param action the action.
+     * @return the number of statements.
+     * @throws Exception the exception of the action.
+     */
+    public static long countStatements(Action<?> action) throws Exception {
+        try (JpaCounters.Scope scope = JpaCounters.open()) {
+            action.call();
+            return scope.getStatements();
+        }
+    }
+
+    /**
+     * Assert that an action executes exactly a number of JDBC statements.
+     *
+     * @param expected the expected number of statements.
+     * @param action the action.
+     * @param <T> the type of the result of the action.
+     * @return the result of the action.
+     * @throws Exception the exception of the action.
+     */
+    public static <T> T assertStatementCount(long expected, Action<T> action) throws Exception {
+        try (JpaCounters.Scope scope = JpaCounters.open()) {
+            T result = action.call();
+            assertThat(scope.getStatements()).as("JDBC statements executed").isEqualTo(expected);
+            return result;
+        }
+    }
+
+    /**
+     * Assert that an action executes at most a number of JDBC statements.
+     *
+     * @param max the maximum number of statements.
+     * @param action the action.
+     * @param <T> the type of the result of the action.
+     * @return the result of the action.
+     * @throws Exception the exception of the action.
+     */
+    public static <T> T assertMaxStatementCount(long max, Action<T> action) throws Exception {
+        try (JpaCounters.Scope scope = JpaCounters.open()) {
+            T result = action.call();
+            assertThat(scope.getStatements()).as("JDBC statements executed").isLessThanOrEqualTo(max);
+            return result;
+        }
+    }
+
+    /**
+     * Assert that an action loads at most a number of entities.
+     *
+     * @param max the maximum number of entities.
+     * @param action the action.
+     * @param <T> the type of the result of the action.
+     * @return the result of the action.
+     * @throws Exception the exception of the action.
+     */
+    public static <T> T assertMaxEntitiesLoaded(long max, Action<T> action) throws Exception {
+        try (JpaCounters.Scope scope = JpaCounters.open()) {
+            T result = action.call();
+            assertThat(scope.getEntitiesLoaded()).as("Entities loaded").isLessThanOrEqualTo(max);
+            return result;
+        }
+    }
+}
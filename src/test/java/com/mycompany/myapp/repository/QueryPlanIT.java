@@ -0,0 +1,182 @@
+package com.mycompany.myapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import com.mycompany.myapp.service.MotorbikeQueryService;
+import com.mycompany.myapp.service.criteria.MotorbikeCriteria;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests checking that the lookups of the repositories are backed by an index, from the {@code EXPLAIN}
+ * output on the test database of the statements they execute, recorded by a JDBC proxy of the test.
+ * <p>
+ * PostgreSQL prefers a sequential scan on tables this small, so sequential scans are disabled for the transaction:
+ * one showing up anyway means no index can serve the query.
+ */
+@IntegrationTest
+@Transactional
+class QueryPlanIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MotorbikeRepository motorbikeRepository;
+
+    @Autowired
+    private MotorbikeQueryService motorbikeQueryService;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    private boolean postgresql;
+
+    @BeforeEach
+    public void init() {
+        postgresql = "PostgreSQL".equals(jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName()));
+        if (postgresql) {
+            jdbcTemplate.execute("set local enable_seqscan = off");
+        }
+    }
+
+    @Test
+    void customerByEmailUsesAnIndex() throws Exception {
+        assertLookupUsesIndexes(() -> customerRepository.findByEmail("john@localhost"));
+    }
+
+    @Test
+    void rentalsOfACustomerUseAnIndex() throws Exception {
+        assertLookupUsesIndexes(() -> customerRepository.findOneWithRentalsById(1L));
+    }
+
+    @Test
+    void rentalsOfAMotorbikeUseAnIndex() throws Exception {
+        assertLookupUsesIndexes(() -> motorbikeRepository.findOneWithRentalsById(1L));
+    }
+
+    @Test
+    void maintenancesOfAMotorbikeUseAnIndex() throws Exception {
+        assertLookupUsesIndexes(() -> motorbikeRepository.fetchMaintenancesByIdIn(List.of(1L)));
+    }
+
+    @Test
+    void motorbikesByStatusUseAnIndex() throws Exception {
+        MotorbikeCriteria criteria = new MotorbikeCriteria();
+        criteria.status().setEquals(BikeStatus.AVAILABLE);
+
+        assertLookupUsesIndexes(() -> motorbikeQueryService.findByCriteria(criteria, PageRequest.of(0, 20)));
+    }
+
+    /**
+     * Explain the statements the lookup actually executed, with their bind parameters.
+     */
+    private void assertLookupUsesIndexes(Callable<?> lookup) throws Exception {
+        List<RecordedStatement> statements = statementRecorder.record(lookup);
+
+        assertThat(statements).as("Statements of the lookup").isNotEmpty();
+        for (RecordedStatement statement : statements) {
+            String plan = String.join("\n", explain(statement));
+            assertThat(plan).as(statement.sql() + "\n" + plan).doesNotContain(postgresql ? "Seq Scan" : "tableScan");
+        }
+    }
+
+    private List<String> explain(RecordedStatement statement) {
+        return jdbcTemplate.queryForList("explain " + statement.sql(), String.class, statement.parameters().toArray());
+    }
+
+    /**
+     * A statement as sent to the database, with its positional bind parameters in order.
+     */
+    record RecordedStatement(String sql, List<Object> parameters) {}
+
+    /**
+     * Records the statements executed through the {@code dataSource} bean, only while a lookup runs.
+     */
+    static class StatementRecorder implements QueryExecutionListener {
+
+        private List<RecordedStatement> statements;
+
+        List<RecordedStatement> record(Callable<?> lookup) throws Exception {
+            statements = new ArrayList<>();
+            try {
+                lookup.call();
+                return statements;
+            } finally {
+                statements = null;
+            }
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            List<RecordedStatement> recording = statements;
+            if (recording == null) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                if (queryInfo.getParametersList().isEmpty()) {
+                    recording.add(new RecordedStatement(queryInfo.getQuery(), List.of()));
+                }
+                for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+                    // Positional parameters only, as Hibernate binds them
+                    Map<Integer, Object> values = new TreeMap<>();
+                    for (ParameterSetOperation parameter : parameters) {
+                        if (parameter.getArgs()[0] instanceof Integer index) {
+                            values.put(index, "setNull".equals(parameter.getMethod().getName()) ? null : parameter.getArgs()[1]);
+                        }
+                    }
+                    recording.add(new RecordedStatement(queryInfo.getQuery(), new ArrayList<>(values.values())));
+                }
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecordingConfiguration {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor statementRecordingDataSourcePostProcessor(StatementRecorder statementRecorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource).name("query-plan").listener(statementRecorder).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
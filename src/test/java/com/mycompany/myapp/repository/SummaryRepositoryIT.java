@@ -0,0 +1,82 @@
+package com.mycompany.myapp.repository;
+
+import static com.mycompany.myapp.management.QueryCountAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Customer;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.Motorbike_;
+import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.domain.Rental_;
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import com.mycompany.myapp.repository.projection.CustomerSummary;
+import com.mycompany.myapp.repository.projection.MotorbikeSummary;
+import com.mycompany.myapp.repository.projection.RentalSummary;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link SummaryRepository}.
+ */
+@IntegrationTest
+@Transactional
+class SummaryRepositoryIT {
+
+    @Autowired
+    private SummaryRepository summaryRepository;
+
+    @Autowired
+    private MotorbikeRepository motorbikeRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Test
+    void motorbikeSummariesAreFilteredSortedAndPaged() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            motorbikeRepository.save(new Motorbike().make("SummaryMake").model("Model " + i).status(BikeStatus.AVAILABLE));
+        }
+        motorbikeRepository.saveAndFlush(new Motorbike().make("OtherMake").model("Model").status(BikeStatus.AVAILABLE));
+        Specification<Motorbike> specification = (root, query, builder) -> builder.equal(root.get(Motorbike_.make), "SummaryMake");
+
+        Page<MotorbikeSummary> page = assertStatementCount(2, () ->
+            summaryRepository.findMotorbikes(specification, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "model")))
+        );
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(MotorbikeSummary::model).containsExactly("Model 2", "Model 1");
+        assertThat(page.getContent()).allSatisfy(summary -> assertThat(summary.status()).isEqualTo(BikeStatus.AVAILABLE));
+    }
+
+    @Test
+    void rentalSummariesReferenceTheirCustomerAndMotorbikeById() {
+        Customer customer = customerRepository.save(
+            new Customer().firstName("john").lastName("doe").email("summary@localhost").password("password")
+        );
+        Motorbike motorbike = motorbikeRepository.save(new Motorbike().make("Make").model("Model").status(BikeStatus.RENTED));
+        LocalDate start = LocalDate.of(2031, 1, 1);
+        Rental rental = rentalRepository.saveAndFlush(
+            new Rental().startDate(start).dueDate(start.plusDays(2)).customer(customer).motorbike(motorbike)
+        );
+        Specification<Rental> specification = (root, query, builder) -> builder.equal(root.get(Rental_.id), rental.getId());
+
+        Page<RentalSummary> page = summaryRepository.findRentals(specification, PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).containsExactly(
+            new RentalSummary(rental.getId(), start, start.plusDays(2), null, customer.getId(), motorbike.getId())
+        );
+        assertThat(summaryRepository.findCustomers((root, query, builder) -> null, PageRequest.of(0, 1000)).getContent()).contains(
+            new CustomerSummary(customer.getId(), "john", "doe", "summary@localhost")
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Unit tests for {@link CachingJwtDecoder}.
+ */
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T10:00:00Z");
+
+    private final MutableClock clock = new MutableClock();
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void init() {
+        clock.instant = NOW;
+        meterRegistry = new SimpleMeterRegistry();
+        JwtDecoder delegate = token -> {
+            delegateCalls.incrementAndGet();
+            if (token.startsWith("invalid")) {
+                throw new BadJwtException("Invalid signature");
+            }
+            return Jwt.withTokenValue(token).header("alg", "HS512").subject("user").issuedAt(NOW).expiresAt(NOW.plusSeconds(60)).build();
+        };
+        decoder = new CachingJwtDecoder(delegate, 10, clock, meterRegistry);
+    }
+
+    @Test
+    void verifiedTokenIsDecodedOnce() {
+        Jwt first = decoder.decode("token");
+        Jwt second = decoder.decode("token");
+
+        assertThat(second).isSameAs(first);
+        assertThat(delegateCalls).hasValue(1);
+        assertThat(meterRegistry.get(CachingJwtDecoder.DECODE_TIMER_NAME).tag("cache", "hit").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CachingJwtDecoder.DECODE_TIMER_NAME).tag("cache", "miss").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredTokenGoesBackToTheDelegate() {
+        decoder.decode("token");
+        clock.instant = NOW.plusSeconds(60);
+
+        decoder.decode("token");
+
+        assertThat(delegateCalls).hasValue(2);
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    void rejectedTokenIsNeverCached() {
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(BadJwtException.class).isThrownBy(() -> decoder.decode("invalid"));
+        }
+
+        assertThat(delegateCalls).hasValue(2);
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    void cacheSizeIsBounded() {
+        for (int i = 0; i < 100; i++) {
+            decoder.decode("token-" + i);
+        }
+
+        assertThat(decoder.size()).isLessThanOrEqualTo(10);
+        assertThat(decoder.decode("token-99").getTokenValue()).isEqualTo("token-99");
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
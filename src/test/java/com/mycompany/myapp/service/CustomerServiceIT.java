@@ -0,0 +1,121 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Customer;
+import com.mycompany.myapp.repository.CustomerRepository;
+import com.mycompany.myapp.service.CustomerService.AuthenticationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link CustomerService}.
+ */
+@IntegrationTest
+@Transactional
+class CustomerServiceIT {
+
+    private static final String DEFAULT_EMAIL = "customer@localhost";
+
+    private static final String DEFAULT_PASSWORD = "correct horse battery staple";
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Customer customer;
+
+    @BeforeEach
+    public void init() {
+        customer = new Customer().firstName("john").lastName("doe").email(DEFAULT_EMAIL);
+    }
+
+    @Test
+    void assertThatSavedPasswordIsHashed() {
+        customerService.save(customer.password(DEFAULT_PASSWORD));
+
+        String hash = customerRepository.findById(customer.getId()).orElseThrow().getPassword();
+        assertThat(hash).isNotEqualTo(DEFAULT_PASSWORD);
+        assertThat(passwordEncoder.matches(DEFAULT_PASSWORD, hash)).isTrue();
+
+        customerService.update(new Customer().id(customer.getId()).firstName("jane").lastName("doe").email(DEFAULT_EMAIL));
+
+        assertThat(customerRepository.findById(customer.getId()).orElseThrow().getPassword()).isEqualTo(hash);
+    }
+
+    @Test
+    void assertThatStoredHashSentBackIsHashedAgain() {
+        customerService.save(customer.password(DEFAULT_PASSWORD));
+        String hash = customerRepository.findById(customer.getId()).orElseThrow().getPassword();
+
+        customerService.update(new Customer().id(customer.getId()).firstName("john").lastName("doe").email(DEFAULT_EMAIL).password(hash));
+
+        String updatedHash = customerRepository.findById(customer.getId()).orElseThrow().getPassword();
+        assertThat(updatedHash).isNotEqualTo(hash);
+        assertThat(passwordEncoder.matches(hash, updatedHash)).isTrue();
+    }
+
+    @Test
+    void assertThatSuppliedHashIsHashedAgain() {
+        String weakHash = new BCryptPasswordEncoder(4).encode(DEFAULT_PASSWORD);
+        customerService.save(customer.password(weakHash));
+
+        String hash = customerRepository.findById(customer.getId()).orElseThrow().getPassword();
+        assertThat(passwordEncoder.matches(weakHash, hash)).isTrue();
+
+        customerService.partialUpdate(new Customer().id(customer.getId()).password(weakHash));
+
+        String patchedHash = customerRepository.findById(customer.getId()).orElseThrow().getPassword();
+        assertThat(patchedHash).isNotEqualTo(weakHash);
+        assertThat(passwordEncoder.matches(weakHash, patchedHash)).isTrue();
+    }
+
+    @Test
+    void assertThatHashedPasswordAuthenticates() throws Exception {
+        customerService.save(customer.password(DEFAULT_PASSWORD));
+
+        assertThat(customerService.authenticate(DEFAULT_EMAIL, DEFAULT_PASSWORD).get()).isEqualTo(AuthenticationResult.AUTHENTICATED);
+        assertThat(customerService.authenticate(DEFAULT_EMAIL, "wrong").get()).isEqualTo(AuthenticationResult.BAD_CREDENTIALS);
+        assertThat(customerService.authenticate("unknown@localhost", DEFAULT_PASSWORD).get()).isEqualTo(
+            AuthenticationResult.UNKNOWN_EMAIL
+        );
+    }
+
+    @Test
+    void assertThatLegacyPasswordIsRehashedOnLogin() throws Exception {
+        customerRepository.saveAndFlush(customer.password(DEFAULT_PASSWORD));
+
+        assertThat(customerService.authenticate(DEFAULT_EMAIL, "wrong").get()).isEqualTo(AuthenticationResult.BAD_CREDENTIALS);
+        assertThat(customerRepository.findById(customer.getId()).orElseThrow().getPassword()).isEqualTo(DEFAULT_PASSWORD);
+
+        assertThat(customerService.authenticate(DEFAULT_EMAIL, DEFAULT_PASSWORD).get()).isEqualTo(AuthenticationResult.AUTHENTICATED);
+
+        String hash = customerRepository.findById(customer.getId()).orElseThrow().getPassword();
+        assertThat(hash).isNotEqualTo(DEFAULT_PASSWORD);
+        assertThat(passwordEncoder.matches(DEFAULT_PASSWORD, hash)).isTrue();
+        assertThat(customerService.authenticate(DEFAULT_EMAIL, DEFAULT_PASSWORD).get()).isEqualTo(AuthenticationResult.AUTHENTICATED);
+    }
+
+    @Test
+    void assertThatWeakHashIsUpgradedOnLogin() throws Exception {
+        String weakHash = new BCryptPasswordEncoder(4).encode(DEFAULT_PASSWORD);
+        customerRepository.saveAndFlush(customer.password(weakHash));
+
+        assertThat(customerService.authenticate(DEFAULT_EMAIL, DEFAULT_PASSWORD).get()).isEqualTo(AuthenticationResult.AUTHENTICATED);
+
+        String hash = customerRepository.findById(customer.getId()).orElseThrow().getPassword();
+        assertThat(hash).isNotEqualTo(weakHash);
+        assertThat(passwordEncoder.upgradeEncoding(hash)).isFalse();
+        assertThat(passwordEncoder.matches(DEFAULT_PASSWORD, hash)).isTrue();
+    }
+}
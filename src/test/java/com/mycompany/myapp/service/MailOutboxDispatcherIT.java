@@ -0,0 +1,121 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.MailOutboxMessage;
+import com.mycompany.myapp.domain.enumeration.MailStatus;
+import com.mycompany.myapp.repository.MailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests for the {@link MailOutboxDispatcher}, sending to an in-process GreenMail SMTP server.
+ * <p>
+ * Not transactional: the dispatcher claims and completes the messages in transactions of its own.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "spring.mail.port=3025")
+class MailOutboxDispatcherIT {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailService mailService;
+
+    @BeforeEach
+    public void setup() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void queuedMessagesAreSentInBatches() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mailService.sendEmail("user" + i + "@example.com", "subject " + i, "content " + i, false, false);
+        }
+
+        mailOutboxDispatcher.dispatch();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).extracting(MimeMessage::getSubject).containsExactlyInAnyOrder("subject 0", "subject 1", "subject 2");
+        assertThat(mailOutboxRepository.findAll()).allSatisfy(message -> {
+            assertThat(message.getStatus()).isEqualTo(MailStatus.SENT);
+            assertThat(message.getSentDate()).isNotNull();
+        });
+    }
+
+    @Test
+    void failedMessagesAreRetriedAfterABackoff() {
+        greenMail.stop();
+        mailService.sendEmail("john.doe@example.com", "subject", "content", false, false);
+
+        mailOutboxDispatcher.dispatch();
+
+        MailOutboxMessage message = mailOutboxRepository.findAll().get(0);
+        assertThat(message.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getLastError()).isNotNull();
+        assertThat(message.getNextAttemptAt()).isCloseTo(Instant.now().plusSeconds(30), within(5, ChronoUnit.SECONDS));
+
+        greenMail.start();
+        mailOutboxDispatcher.dispatch();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        message.setNextAttemptAt(Instant.now().minusSeconds(1));
+        mailOutboxRepository.save(message);
+        mailOutboxDispatcher.dispatch();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(mailOutboxRepository.findById(message.getId()))
+            .get()
+            .extracting(MailOutboxMessage::getStatus)
+            .isEqualTo(MailStatus.SENT);
+    }
+
+    @Test
+    void messageIsGivenUpAfterTheLastAttempt() {
+        greenMail.stop();
+        mailService.sendEmail("john.doe@example.com", "subject", "content", false, false);
+        MailOutboxMessage message = mailOutboxRepository.findAll().get(0);
+        message.setAttempts(9);
+        mailOutboxRepository.save(message);
+
+        mailOutboxDispatcher.dispatch();
+
+        assertThat(mailOutboxRepository.findById(message.getId())).get().satisfies(failed -> {
+            assertThat(failed.getStatus()).isEqualTo(MailStatus.FAILED);
+            assertThat(failed.getAttempts()).isEqualTo(10);
+        });
+    }
+
+    @Test
+    void backoffDoublesUpToTheMaximum() {
+        assertThat(mailOutboxDispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(mailOutboxDispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(mailOutboxDispatcher.backoff(4)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(mailOutboxDispatcher.backoff(20)).isEqualTo(Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,53 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.Constants;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.service.MailTemplateRenderer.RenderedMail;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link MailTemplateRenderer}.
+ */
+@IntegrationTest
+class MailTemplateRendererIT {
+
+    @Autowired
+    private MailTemplateRenderer mailTemplateRenderer;
+
+    @Test
+    void batchRenderingMatchesSingleRendering() {
+        List<User> users = List.of(user("john", "activationkey1"), user("jane", "activationkey2"));
+
+        List<RenderedMail> mails = mailTemplateRenderer.render(users, MailTemplateRenderer.ACTIVATION_TEMPLATE, "email.activation.title");
+
+        assertThat(mails).containsExactly(
+            mailTemplateRenderer.render(users.get(0), MailTemplateRenderer.ACTIVATION_TEMPLATE, "email.activation.title"),
+            mailTemplateRenderer.render(users.get(1), MailTemplateRenderer.ACTIVATION_TEMPLATE, "email.activation.title")
+        );
+        assertThat(mails.get(0).subject()).isEqualTo("ooadj account activation is required");
+        assertThat(mails.get(0).content()).contains("john", "activationkey1").doesNotContain("jane");
+        assertThat(mails.get(1).content()).contains("jane", "activationkey2").doesNotContain("john");
+    }
+
+    @Test
+    void warmUpRendersEveryTemplate() {
+        mailTemplateRenderer.warmUp();
+
+        assertThat(mailTemplateRenderer.render(user("john", "key"), MailTemplateRenderer.PASSWORD_RESET_TEMPLATE, "email.reset.title"))
+            .extracting(RenderedMail::subject)
+            .isEqualTo("ooadj password reset");
+    }
+
+    private User user(String login, String activationKey) {
+        User user = new User();
+        user.setLogin(login);
+        user.setLangKey(Constants.DEFAULT_LANGUAGE);
+        user.setActivationKey(activationKey);
+        return user;
+    }
+}
@@ -0,0 +1,82 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.service.dto.MotorbikeImportDTO;
+import com.mycompany.myapp.service.dto.MotorbikeImportReportDTO;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Integration tests for {@link MotorbikeImportService}.
+ */
+@IntegrationTest
+@Transactional
+class MotorbikeImportServiceIT {
+
+    @Autowired
+    private MotorbikeImportService motorbikeImportService;
+
+    @Autowired
+    private MotorbikeRepository motorbikeRepository;
+
+    @Test
+    void importCreatesValidRowsAndReportsTheOthers() {
+        long before = motorbikeRepository.count();
+        List<MotorbikeImportDTO> rows = new ArrayList<>();
+        IntStream.range(0, 1_200).forEach(i -> rows.add(new MotorbikeImportDTO("Honda", "CB" + i, null)));
+        rows.add(new MotorbikeImportDTO(" Ducati ", "Monster", "in_maintenance"));
+        rows.add(new MotorbikeImportDTO("Ducati", " ", null));
+        rows.add(new MotorbikeImportDTO("Ducati", "Panigale", "STOLEN"));
+
+        MotorbikeImportReportDTO report = motorbikeImportService.importMotorbikes(rows);
+
+        assertThat(report.getCreated()).isEqualTo(1_201);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getRows()).hasSize(rows.size());
+        assertThat(report.getRows().get(1_201).getError()).isEqualTo("model is required");
+        assertThat(report.getRows().get(1_202).getError()).isEqualTo("unknown status STOLEN");
+        assertThat(motorbikeRepository.count()).isEqualTo(before + 1_201);
+
+        Motorbike ducati = motorbikeRepository.findById(report.getRows().get(1_200).getId()).orElseThrow();
+        assertThat(ducati.getMake()).isEqualTo("Ducati");
+        assertThat(ducati.getStatus()).isEqualTo(BikeStatus.IN_MAINTENANCE);
+        assertThat(motorbikeRepository.findById(report.getRows().get(0).getId()).orElseThrow().getStatus()).isEqualTo(
+            BikeStatus.AVAILABLE
+        );
+    }
+
+    @Test
+    void csvColumnsAreMatchedByHeader() throws Exception {
+        String csv = "status,Model,make,notes\n\nrented,\"Street \"\"Triple\"\"\",Triumph,\"a, b\"\n,Scrambler\n";
+
+        List<MotorbikeImportDTO> rows = motorbikeImportService.readCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getMake()).isEqualTo("Triumph");
+        assertThat(rows.get(0).getModel()).isEqualTo("Street \"Triple\"");
+        assertThat(rows.get(0).getStatus()).isEqualTo("rented");
+        assertThat(rows.get(1).getMake()).isNull();
+        assertThat(rows.get(1).getModel()).isEqualTo("Scrambler");
+    }
+
+    @Test
+    void csvWithoutMakeColumnIsRejected() {
+        String csv = "model,status\nMonster,AVAILABLE\n";
+
+        assertThatThrownBy(() -> motorbikeImportService.readCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))))
+            .isInstanceOf(ResponseStatusException.class);
+    }
+}
@@ -0,0 +1,122 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.stratergy.PricingStrategy1;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+
+/**
+ * Unit tests for the quote cache of {@link RentalQuoteService}.
+ */
+class RentalQuoteServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 6, 3);
+
+    private final AtomicInteger calendarCalls = new AtomicInteger();
+
+    private final AtomicInteger standardCalls = new AtomicInteger();
+
+    private ApplicationProperties applicationProperties;
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private RentalQuoteService rentalQuoteService;
+
+    @BeforeEach
+    public void init() {
+        applicationProperties = new ApplicationProperties();
+        cacheManager = new ConcurrentMapCacheManager(RentalQuoteService.QUOTE_CACHE);
+        rentalQuoteService = createService();
+    }
+
+    @Test
+    void samePricingInputsAreComputedOnce() {
+        BigDecimal first = rentalQuoteService.price(null, rental("Ducati", "Monster", 3));
+        BigDecimal second = rentalQuoteService.price(RentalQuoteService.DEFAULT_STRATEGY, rental("DUCATI", "monster", 3));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(calendarCalls).hasValue(1);
+
+        rentalQuoteService.price(null, rental("Ducati", "Monster", 4));
+        rentalQuoteService.price("standardPricing", rental("Ducati", "Monster", 3));
+
+        assertThat(calendarCalls).hasValue(2);
+        assertThat(standardCalls).hasValue(1);
+    }
+
+    @Test
+    void disabledStrategiesAreAlwaysComputed() {
+        applicationProperties.getPricing().getQuoteCache().getDisabledStrategies().add("standardPricing");
+        rentalQuoteService = createService();
+
+        rentalQuoteService.price("standardPricing", rental("Ducati", "Monster", 3));
+        rentalQuoteService.price("standardPricing", rental("Ducati", "Monster", 3));
+        rentalQuoteService.price(null, rental("Ducati", "Monster", 3));
+        rentalQuoteService.price(null, rental("Ducati", "Monster", 3));
+
+        assertThat(standardCalls).hasValue(2);
+        assertThat(calendarCalls).hasValue(1);
+    }
+
+    @Test
+    void clearingTheCacheRecomputesPrices() {
+        rentalQuoteService.price(null, rental("Ducati", "Monster", 3));
+        cacheManager.getCache(RentalQuoteService.QUOTE_CACHE).clear();
+        rentalQuoteService.price(null, rental("Ducati", "Monster", 3));
+
+        assertThat(calendarCalls).hasValue(2);
+    }
+
+    @Test
+    void rentalsLongerThanTheMaximumAreRejected() {
+        applicationProperties.getPricing().setMaxDays(30);
+        rentalQuoteService = createService();
+
+        rentalQuoteService.price(null, rental("Ducati", "Monster", 30));
+        assertThatThrownBy(() -> rentalQuoteService.price(null, rental("Ducati", "Monster", 31))).isInstanceOf(
+            RentalTooLongException.class
+        );
+        assertThatThrownBy(() -> rentalQuoteService.price(null, rental("Ducati", "Monster", 3).returnDate(DAY.plusDays(31)))).isInstanceOf(
+            RentalTooLongException.class
+        );
+        assertThatThrownBy(() -> rentalQuoteService.price(null, new Rental().startDate(LocalDate.MIN).dueDate(LocalDate.MAX))).isInstanceOf(
+            RentalTooLongException.class
+        );
+        assertThat(calendarCalls).hasValue(1);
+    }
+
+    private RentalQuoteService createService() {
+        Map<String, PricingStrategy1> strategies = Map.of(
+            RentalQuoteService.DEFAULT_STRATEGY,
+            rental -> BigDecimal.valueOf(calendarCalls.incrementAndGet()),
+            "standardPricing",
+            rental -> BigDecimal.valueOf(standardCalls.incrementAndGet())
+        );
+        return new RentalQuoteService(
+            strategies,
+            mock(MotorbikeRepository.class),
+            new ObjectMapper(),
+            cacheManager,
+            applicationProperties,
+            new SyncTaskExecutor()
+        );
+    }
+
+    private static Rental rental(String make, String model, int days) {
+        return new Rental().startDate(DAY).dueDate(DAY.plusDays(days)).motorbike(new Motorbike().make(make).model(model));
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.transaction.annotation.Transactional;
@@ -54,6 +55,15 @@ class UserServiceIT {
 
     private User user;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void clearUserCaches() {
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+        cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE).clear();
+    }
+
     @BeforeEach
     public void init() {
         user = new User();
@@ -70,6 +80,19 @@ class UserServiceIT {
         auditingHandler.setDateTimeProvider(dateTimeProvider);
     }
 
+    @Test
+    @Transactional
+    void assertThatDeletedUserIsEvictedFromCaches() {
+        userRepository.saveAndFlush(user);
+        assertThat(userService.getUserWithAuthoritiesByLogin(DEFAULT_LOGIN)).isPresent();
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).get(DEFAULT_LOGIN)).isNotNull();
+
+        userService.deleteUser(DEFAULT_LOGIN);
+
+        assertThat(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).get(DEFAULT_LOGIN)).isNull();
+        assertThat(userService.getUserWithAuthoritiesByLogin(DEFAULT_LOGIN)).isNotPresent();
+    }
+
     @Test
     @Transactional
     void assertThatUserMustExistToResetPassword() {
@@ -0,0 +1,153 @@
+package com.mycompany.myapp.service.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.domain.Maintenance;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.repository.MaintenanceRepository;
+import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.repository.RentalRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for {@link MotorbikeAvailabilityIndex} and {@link IntervalTree}.
+ */
+class MotorbikeAvailabilityIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 6, 1);
+
+    private RentalRepository rentalRepository;
+
+    private MaintenanceRepository maintenanceRepository;
+
+    private MotorbikeAvailabilityIndex index;
+
+    @BeforeEach
+    public void init() {
+        rentalRepository = mock(RentalRepository.class);
+        maintenanceRepository = mock(MaintenanceRepository.class);
+        index = new MotorbikeAvailabilityIndex(
+            mock(MotorbikeRepository.class),
+            rentalRepository,
+            maintenanceRepository,
+            mock(PlatformTransactionManager.class)
+        );
+        index.addMotorbike(1L);
+        index.addMotorbike(2L);
+    }
+
+    @Test
+    void rentalBlocksOnlyItsOwnPeriod() {
+        index.putRental(rental(10L, 1L, DAY, DAY.plusDays(3), null));
+
+        assertThat(index.isAvailable(1L, DAY.minusDays(2), DAY)).isTrue();
+        assertThat(index.isAvailable(1L, DAY.plusDays(2), DAY.plusDays(4))).isFalse();
+        assertThat(index.isAvailable(1L, DAY.plusDays(3), DAY.plusDays(5))).isTrue();
+        assertThat(index.isAvailable(2L, DAY, DAY.plusDays(3))).isTrue();
+        assertThat(index.findAvailable(DAY, DAY.plusDays(1))).containsExactly(2L);
+    }
+
+    @Test
+    void returnedRentalFreesTheMotorbikeEarly() {
+        Rental rental = rental(10L, 1L, DAY, DAY.plusDays(10), null);
+        index.putRental(rental);
+        assertThat(index.isAvailable(1L, DAY.plusDays(5), DAY.plusDays(6))).isFalse();
+
+        index.putRental(rental.returnDate(DAY.plusDays(2)));
+
+        assertThat(index.isAvailable(1L, DAY.plusDays(5), DAY.plusDays(6))).isTrue();
+        assertThat(index.isAvailable(1L, DAY.plusDays(1), DAY.plusDays(2))).isFalse();
+    }
+
+    @Test
+    void rentalMovedToAnotherMotorbikeIsReindexed() {
+        Rental rental = rental(10L, 1L, DAY, DAY.plusDays(3), null);
+        index.putRental(rental);
+
+        index.putRental(rental.motorbike(new Motorbike().id(2L)));
+
+        assertThat(index.isAvailable(1L, DAY, DAY.plusDays(3))).isTrue();
+        assertThat(index.isAvailable(2L, DAY, DAY.plusDays(3))).isFalse();
+
+        index.removeRental(10L);
+
+        assertThat(index.isAvailable(2L, DAY, DAY.plusDays(3))).isTrue();
+    }
+
+    @Test
+    void updatedRentalIgnoresItsOwnPeriod() {
+        index.putRental(rental(10L, 1L, DAY, DAY.plusDays(3), null));
+        index.putRental(rental(11L, 1L, DAY.plusDays(5), DAY.plusDays(7), null));
+
+        assertThat(index.isAvailable(1L, DAY.plusDays(1), DAY.plusDays(4), 10L)).isTrue();
+        assertThat(index.isAvailable(1L, DAY.plusDays(1), DAY.plusDays(6), 10L)).isFalse();
+        assertThat(index.isAvailable(1L, DAY.plusDays(1), DAY.plusDays(4))).isFalse();
+    }
+
+    @Test
+    void unindexedMotorbikeIsCheckedInTheDatabase() {
+        when(rentalRepository.countOverlapping(eq(3L), any(), any(), isNull())).thenReturn(1L);
+
+        assertThat(index.isAvailable(3L, DAY, DAY.plusDays(1))).isFalse();
+        assertThat(index.isAvailable(4L, DAY, DAY.plusDays(1))).isTrue();
+
+        when(maintenanceRepository.countOverlapping(eq(4L), any(), any())).thenReturn(1L);
+
+        assertThat(index.isAvailable(4L, DAY, DAY.plusDays(1))).isFalse();
+    }
+
+    @Test
+    void openMaintenanceBlocksEverythingAfterItsStart() {
+        Maintenance maintenance = new Maintenance().id(20L).startDate(DAY).motorbike(new Motorbike().id(1L));
+        index.putMaintenance(maintenance);
+
+        assertThat(index.isAvailable(1L, DAY.minusDays(3), DAY)).isTrue();
+        assertThat(index.isAvailable(1L, DAY.plusYears(5), DAY.plusYears(5).plusDays(1))).isFalse();
+
+        index.putMaintenance(maintenance.endDate(DAY.plusDays(1)));
+
+        assertThat(index.isAvailable(1L, DAY.plusDays(1), DAY.plusDays(2))).isFalse();
+        assertThat(index.isAvailable(1L, DAY.plusDays(2), DAY.plusDays(3))).isTrue();
+    }
+
+    @Test
+    void intervalTreeMatchesLinearScan() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        List<long[]> intervals = new ArrayList<>();
+        for (long key = 0; key < 2000; key++) {
+            long start = random.nextInt(10_000);
+            long[] interval = { start, start + 1 + random.nextInt(30), key };
+            intervals.add(interval);
+            tree.insert(interval[0], interval[1], interval[2]);
+        }
+        for (int i = 0; i < 1000; i++) {
+            long[] removed = intervals.remove(random.nextInt(intervals.size()));
+            assertThat(tree.remove(removed[0], removed[2])).isTrue();
+        }
+        assertThat(tree.size()).isEqualTo(intervals.size());
+
+        for (int i = 0; i < 5000; i++) {
+            long from = random.nextInt(10_100);
+            long to = from + 1 + random.nextInt(10);
+            boolean expected = intervals.stream().anyMatch(interval -> interval[0] < to && from < interval[1]);
+            assertThat(tree.overlaps(from, to)).isEqualTo(expected);
+        }
+    }
+
+    private static Rental rental(Long id, Long motorbikeId, LocalDate start, LocalDate due, LocalDate returned) {
+        return new Rental().id(id).startDate(start).dueDate(due).returnDate(returned).motorbike(new Motorbike().id(motorbikeId));
+    }
+}
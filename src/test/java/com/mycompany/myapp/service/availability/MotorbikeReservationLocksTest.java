@@ -0,0 +1,41 @@
+package com.mycompany.myapp.service.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Unit tests for {@link MotorbikeReservationLocks}.
+ */
+class MotorbikeReservationLocksTest {
+
+    private final MotorbikeReservationLocks locks = new MotorbikeReservationLocks();
+
+    @Test
+    void claimRunsWhileHoldingTheLock() {
+        assertThat(locks.withLock(1L, () -> locks.withLock(1L, () -> "reentrant"))).isEqualTo("reentrant");
+    }
+
+    @Test
+    void interruptedWaitIsUnavailableAndKeepsTheInterruptFlag() {
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> locks.withLock(1L, () -> "claimed")).isInstanceOf(ReservationLockUnavailableException.class);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void unavailableLockIsAServiceUnavailableError() {
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(
+            ReservationLockUnavailableException.class,
+            ResponseStatus.class
+        );
+
+        assertThat(responseStatus).isNotNull();
+        assertThat(responseStatus.value()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,128 @@
+package com.mycompany.myapp.stratergy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.Rental;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CalendarPricingStrategy} and {@link DayRateTable}.
+ */
+class CalendarPricingStrategyTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 6, 3);
+
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    public void init() {
+        applicationProperties = new ApplicationProperties();
+    }
+
+    @Test
+    void weekendDaysAreChargedTheWeekendRate() {
+        CalendarPricingStrategy strategy = new CalendarPricingStrategy(applicationProperties);
+
+        assertThat(strategy.priceInCents(MONDAY, MONDAY.plusDays(5), null, null)).isEqualTo(5 * 2000);
+        assertThat(strategy.priceInCents(MONDAY, MONDAY.plusDays(7), null, null)).isEqualTo(5 * 2000 + 2 * 2500);
+        assertThat(strategy.calculatePrice(new Rental().startDate(MONDAY).dueDate(MONDAY.plusDays(7)))).isEqualTo(new BigDecimal("150.00"));
+    }
+
+    @Test
+    void seasonsCanWrapAroundTheNewYear() {
+        ApplicationProperties.Pricing.Season season = new ApplicationProperties.Pricing.Season();
+        season.setFrom("12-20");
+        season.setTo("01-05");
+        season.setMultiplier(new BigDecimal("2"));
+        applicationProperties.getPricing().getSeasons().add(season);
+        CalendarPricingStrategy strategy = new CalendarPricingStrategy(applicationProperties);
+
+        LocalDate newYearsEveMonday = LocalDate.of(2024, 12, 30);
+        assertThat(strategy.priceInCents(newYearsEveMonday, newYearsEveMonday.plusDays(3), null, null)).isEqualTo(3 * 4000);
+        assertThat(strategy.priceInCents(MONDAY, MONDAY.plusDays(1), null, null)).isEqualTo(2000);
+    }
+
+    @Test
+    void modelMultiplierFallsBackToTheMake() {
+        applicationProperties.getPricing().getModelMultipliers().put("Ducati", new BigDecimal("1.5"));
+        applicationProperties.getPricing().getModelMultipliers().put("Ducati/Panigale", new BigDecimal("2"));
+        CalendarPricingStrategy strategy = new CalendarPricingStrategy(applicationProperties);
+
+        LocalDate wednesday = MONDAY.plusDays(2);
+        assertThat(strategy.priceInCents(MONDAY, wednesday, null, new Motorbike().make("ducati").model("Monster"))).isEqualTo(6000);
+        assertThat(strategy.priceInCents(MONDAY, wednesday, null, new Motorbike().make("DUCATI").model("panigale"))).isEqualTo(8000);
+        assertThat(strategy.priceInCents(MONDAY, wednesday, null, new Motorbike().make("Honda").model("CBR"))).isEqualTo(4000);
+    }
+
+    @Test
+    void longestMatchingDiscountApplies() {
+        applicationProperties.getPricing().getLongRentalDiscounts().add(discount(28, "20"));
+        applicationProperties.getPricing().getLongRentalDiscounts().add(discount(7, "10"));
+        CalendarPricingStrategy strategy = new CalendarPricingStrategy(applicationProperties);
+
+        assertThat(strategy.priceInCents(MONDAY, MONDAY.plusDays(6), null, null)).isEqualTo(12500);
+        assertThat(strategy.priceInCents(MONDAY, MONDAY.plusDays(7), null, null)).isEqualTo(13500);
+        assertThat(strategy.priceInCents(MONDAY, MONDAY.plusDays(28), null, null)).isEqualTo(4 * 15000 * 8 / 10);
+    }
+
+    @Test
+    void lateDaysAreChargedWithTheLateReturnMultiplier() {
+        CalendarPricingStrategy strategy = new CalendarPricingStrategy(applicationProperties);
+        LocalDate wednesday = MONDAY.plusDays(2);
+
+        assertThat(strategy.priceInCents(MONDAY, wednesday, wednesday.plusDays(3), null)).isEqualTo(4000 + 3 * 2000 * 3 / 2);
+        assertThat(strategy.priceInCents(MONDAY, wednesday, MONDAY.plusDays(1), null)).isEqualTo(4000);
+    }
+
+    @Test
+    void dayRateTableMatchesDayByDaySum() {
+        int[] seasons = new int[366];
+        Random random = new Random(42);
+        for (int i = 0; i < seasons.length; i++) {
+            seasons[i] = DayRateTable.BASIS_POINTS / 2 + random.nextInt(DayRateTable.BASIS_POINTS);
+        }
+        DayRateTable table = new DayRateTable(2000, 2500, seasons);
+
+        for (int i = 0; i < 500; i++) {
+            LocalDate from = LocalDate.of(2023, 1, 1).plusDays(random.nextInt(1200));
+            LocalDate to = from.plusDays(random.nextInt(400));
+            long expected = 0;
+            for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+                boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+                int index = DayRateTable.calendarIndex(MonthDay.from(day));
+                expected += DayRateTable.applyBasisPoints(weekend ? 2500 : 2000, seasons[index]);
+            }
+            assertThat(table.sum(from, to)).isEqualTo(expected);
+        }
+    }
+
+    private static ApplicationProperties.Pricing.LongRentalDiscount discount(int minDays, String percent) {
+        ApplicationProperties.Pricing.LongRentalDiscount discount = new ApplicationProperties.Pricing.LongRentalDiscount();
+        discount.setMinDays(minDays);
+        discount.setPercent(new BigDecimal(percent));
+        return discount;
+    }
+
+    @Test
+    void cachedYearsAreBounded() {
+        int[] seasons = new int[366];
+        Arrays.fill(seasons, DayRateTable.BASIS_POINTS);
+        DayRateTable table = new DayRateTable(2000, 2500, seasons);
+        LocalDate from = LocalDate.of(1900, 1, 1);
+        LocalDate to = from.plusYears(DayRateTable.MAX_CACHED_YEARS * 2L);
+
+        long total = table.sum(from, to);
+
+        assertThat(table.cachedYears()).isEqualTo(DayRateTable.MAX_CACHED_YEARS);
+        assertThat(table.sum(from, to)).isEqualTo(total);
+    }
+}
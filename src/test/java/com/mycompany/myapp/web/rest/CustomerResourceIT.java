@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Customer;
 import com.mycompany.myapp.repository.CustomerRepository;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -61,6 +63,9 @@ class CustomerResourceIT {
     @Autowired
     private MockMvc restCustomerMockMvc;
 
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     private Customer customer;
 
     /**
@@ -105,7 +110,7 @@ class CustomerResourceIT {
         // Create the Customer
         var returnedCustomer = om.readValue(
             restCustomerMockMvc
-                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(customer)))
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(withPassword(customer)))
                 .andExpect(status().isCreated())
                 .andReturn()
                 .getResponse()
@@ -115,6 +120,8 @@ class CustomerResourceIT {
 
         // Validate the Customer in the database
         assertIncrementedRepositoryCount(databaseSizeBeforeCreate);
+        assertThat(returnedCustomer.getPassword()).isNull();
+        assertPersistedPasswordMatches(returnedCustomer, DEFAULT_PASSWORD);
         assertCustomerUpdatableFieldsEquals(returnedCustomer, getPersistedCustomer(returnedCustomer));
     }
 
@@ -128,7 +135,7 @@ class CustomerResourceIT {
 
         // An entity with an existing ID cannot be created, so this API call must fail
         restCustomerMockMvc
-            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(customer)))
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(withPassword(customer)))
             .andExpect(status().isBadRequest());
 
         // Validate the Customer in the database
@@ -145,7 +152,7 @@ class CustomerResourceIT {
         // Create the Customer, which fails.
 
         restCustomerMockMvc
-            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(customer)))
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(withPassword(customer)))
             .andExpect(status().isBadRequest());
 
         assertSameRepositoryCount(databaseSizeBeforeTest);
@@ -161,7 +168,7 @@ class CustomerResourceIT {
         // Create the Customer, which fails.
 
         restCustomerMockMvc
-            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(customer)))
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(withPassword(customer)))
             .andExpect(status().isBadRequest());
 
         assertSameRepositoryCount(databaseSizeBeforeTest);
@@ -177,7 +184,7 @@ class CustomerResourceIT {
         // Create the Customer, which fails.
 
         restCustomerMockMvc
-            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(customer)))
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(withPassword(customer)))
             .andExpect(status().isBadRequest());
 
         assertSameRepositoryCount(databaseSizeBeforeTest);
@@ -193,7 +200,7 @@ class CustomerResourceIT {
         // Create the Customer, which fails.
 
         restCustomerMockMvc
-            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(customer)))
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(withPassword(customer)))
             .andExpect(status().isBadRequest());
 
         assertSameRepositoryCount(databaseSizeBeforeTest);
@@ -214,7 +221,7 @@ class CustomerResourceIT {
             .andExpect(jsonPath("$.[*].firstName").value(hasItem(DEFAULT_FIRST_NAME)))
             .andExpect(jsonPath("$.[*].lastName").value(hasItem(DEFAULT_LAST_NAME)))
             .andExpect(jsonPath("$.[*].email").value(hasItem(DEFAULT_EMAIL)))
-            .andExpect(jsonPath("$.[*].password").value(hasItem(DEFAULT_PASSWORD)));
+            .andExpect(jsonPath("$.[*].password").doesNotExist());
     }
 
     @Test
@@ -232,7 +239,69 @@ class CustomerResourceIT {
             .andExpect(jsonPath("$.firstName").value(DEFAULT_FIRST_NAME))
             .andExpect(jsonPath("$.lastName").value(DEFAULT_LAST_NAME))
             .andExpect(jsonPath("$.email").value(DEFAULT_EMAIL))
-            .andExpect(jsonPath("$.password").value(DEFAULT_PASSWORD));
+            .andExpect(jsonPath("$.password").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getAllCustomersByEmailIsEqualToSomething() throws Exception {
+        // Initialize the database
+        customerRepository.saveAndFlush(customer);
+
+        // Get all the customerList where email equals to
+        defaultCustomerFiltering("email.equals=" + DEFAULT_EMAIL, "email.equals=" + UPDATED_EMAIL);
+    }
+
+    @Test
+    @Transactional
+    void getAllCustomersByLastNameContainsSomething() throws Exception {
+        // Initialize the database
+        customerRepository.saveAndFlush(customer);
+
+        // Get all the customerList where lastName contains
+        defaultCustomerFiltering("lastName.contains=" + DEFAULT_LAST_NAME, "lastName.contains=" + UPDATED_LAST_NAME);
+    }
+
+    private void defaultCustomerFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultCustomerShouldBeFound(shouldBeFound);
+        defaultCustomerShouldNotBeFound(shouldNotBeFound);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultCustomerShouldBeFound(String filter) throws Exception {
+        restCustomerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(customer.getId().intValue())));
+
+        // Check, that the count call also returns 1
+        restCustomerMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultCustomerShouldNotBeFound(String filter) throws Exception {
+        restCustomerMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restCustomerMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
     }
 
     @Test
@@ -260,15 +329,41 @@ class CustomerResourceIT {
             .perform(
                 put(ENTITY_API_URL_ID, updatedCustomer.getId())
                     .contentType(MediaType.APPLICATION_JSON)
-                    .content(om.writeValueAsBytes(updatedCustomer))
+                    .content(withPassword(updatedCustomer))
             )
             .andExpect(status().isOk());
 
         // Validate the Customer in the database
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
+        assertPersistedPasswordMatches(updatedCustomer, UPDATED_PASSWORD);
         assertPersistedCustomerToMatchAllProperties(updatedCustomer);
     }
 
+    @Test
+    @Transactional
+    void putExistingCustomerWithoutPassword() throws Exception {
+        // Initialize the database
+        customerRepository.saveAndFlush(customer);
+
+        // Update the customer as read by a client, without its password
+        Customer updatedCustomer = customerRepository.findById(customer.getId()).orElseThrow();
+        em.detach(updatedCustomer);
+        updatedCustomer.firstName(UPDATED_FIRST_NAME).password(null);
+
+        restCustomerMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedCustomer.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(withPassword(updatedCustomer))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.password").doesNotExist());
+
+        // The stored password is kept
+        assertThat(getPersistedCustomer(updatedCustomer).getFirstName()).isEqualTo(UPDATED_FIRST_NAME);
+        assertThat(getPersistedCustomer(updatedCustomer).getPassword()).isEqualTo(DEFAULT_PASSWORD);
+    }
+
     @Test
     @Transactional
     void putNonExistingCustomer() throws Exception {
@@ -277,9 +372,7 @@ class CustomerResourceIT {
 
         // If the entity doesn't have an ID, it will throw BadRequestAlertException
         restCustomerMockMvc
-            .perform(
-                put(ENTITY_API_URL_ID, customer.getId()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(customer))
-            )
+            .perform(put(ENTITY_API_URL_ID, customer.getId()).contentType(MediaType.APPLICATION_JSON).content(withPassword(customer)))
             .andExpect(status().isBadRequest());
 
         // Validate the Customer in the database
@@ -297,7 +390,7 @@ class CustomerResourceIT {
             .perform(
                 put(ENTITY_API_URL_ID, longCount.incrementAndGet())
                     .contentType(MediaType.APPLICATION_JSON)
-                    .content(om.writeValueAsBytes(customer))
+                    .content(withPassword(customer))
             )
             .andExpect(status().isBadRequest());
 
@@ -313,7 +406,7 @@ class CustomerResourceIT {
 
         // If url ID doesn't match entity ID, it will throw BadRequestAlertException
         restCustomerMockMvc
-            .perform(put(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(customer)))
+            .perform(put(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(withPassword(customer)))
             .andExpect(status().isMethodNotAllowed());
 
         // Validate the Customer in the database
@@ -338,13 +431,14 @@ class CustomerResourceIT {
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedCustomer.getId())
                     .contentType("application/merge-patch+json")
-                    .content(om.writeValueAsBytes(partialUpdatedCustomer))
+                    .content(withPassword(partialUpdatedCustomer))
             )
             .andExpect(status().isOk());
 
         // Validate the Customer in the database
 
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
+        assertPersistedPasswordMatches(partialUpdatedCustomer, UPDATED_PASSWORD);
         assertCustomerUpdatableFieldsEquals(createUpdateProxyForBean(partialUpdatedCustomer, customer), getPersistedCustomer(customer));
     }
 
@@ -366,13 +460,14 @@ class CustomerResourceIT {
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedCustomer.getId())
                     .contentType("application/merge-patch+json")
-                    .content(om.writeValueAsBytes(partialUpdatedCustomer))
+                    .content(withPassword(partialUpdatedCustomer))
             )
             .andExpect(status().isOk());
 
         // Validate the Customer in the database
 
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
+        assertPersistedPasswordMatches(partialUpdatedCustomer, UPDATED_PASSWORD);
         assertCustomerUpdatableFieldsEquals(partialUpdatedCustomer, getPersistedCustomer(partialUpdatedCustomer));
     }
 
@@ -384,11 +479,7 @@ class CustomerResourceIT {
 
         // If the entity doesn't have an ID, it will throw BadRequestAlertException
         restCustomerMockMvc
-            .perform(
-                patch(ENTITY_API_URL_ID, customer.getId())
-                    .contentType("application/merge-patch+json")
-                    .content(om.writeValueAsBytes(customer))
-            )
+            .perform(patch(ENTITY_API_URL_ID, customer.getId()).contentType("application/merge-patch+json").content(withPassword(customer)))
             .andExpect(status().isBadRequest());
 
         // Validate the Customer in the database
@@ -406,7 +497,7 @@ class CustomerResourceIT {
             .perform(
                 patch(ENTITY_API_URL_ID, longCount.incrementAndGet())
                     .contentType("application/merge-patch+json")
-                    .content(om.writeValueAsBytes(customer))
+                    .content(withPassword(customer))
             )
             .andExpect(status().isBadRequest());
 
@@ -422,7 +513,7 @@ class CustomerResourceIT {
 
         // If url ID doesn't match entity ID, it will throw BadRequestAlertException
         restCustomerMockMvc
-            .perform(patch(ENTITY_API_URL).contentType("application/merge-patch+json").content(om.writeValueAsBytes(customer)))
+            .perform(patch(ENTITY_API_URL).contentType("application/merge-patch+json").content(withPassword(customer)))
             .andExpect(status().isMethodNotAllowed());
 
         // Validate the Customer in the database
@@ -462,10 +553,28 @@ class CustomerResourceIT {
         assertThat(countBefore).isEqualTo(getRepositoryCount());
     }
 
+    /**
+     * The password is write-only: add it back to the serialized customer, as sent by a client.
+     */
+    private byte[] withPassword(Customer customer) throws Exception {
+        ObjectNode json = om.valueToTree(customer);
+        json.put("password", customer.getPassword());
+        return om.writeValueAsBytes(json);
+    }
+
     protected Customer getPersistedCustomer(Customer customer) {
         return customerRepository.findById(customer.getId()).orElseThrow();
     }
 
+    /**
+     * Passwords are stored hashed: check the persisted one against the raw password, then expect the hash.
+     */
+    protected void assertPersistedPasswordMatches(Customer expectedCustomer, String rawPassword) {
+        String persistedPassword = getPersistedCustomer(expectedCustomer).getPassword();
+        assertThat(passwordEncoder.matches(rawPassword, persistedPassword)).isTrue();
+        expectedCustomer.setPassword(persistedPassword);
+    }
+
     protected void assertPersistedCustomerToMatchAllProperties(Customer expectedCustomer) {
         assertCustomerAllPropertiesEquals(expectedCustomer, getPersistedCustomer(expectedCustomer));
     }
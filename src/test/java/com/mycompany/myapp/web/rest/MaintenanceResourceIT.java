@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.Maintenance;
+import com.mycompany.myapp.domain.Motorbike;
 import com.mycompany.myapp.repository.MaintenanceRepository;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
@@ -182,6 +183,74 @@ class MaintenanceResourceIT {
             .andExpect(jsonPath("$.endDate").value(DEFAULT_END_DATE.toString()));
     }
 
+    @Test
+    @Transactional
+    void getAllMaintenancesByDescriptionIsEqualToSomething() throws Exception {
+        // Initialize the database
+        maintenanceRepository.saveAndFlush(maintenance);
+
+        // Get all the maintenanceList where description equals to
+        defaultMaintenanceFiltering("description.equals=" + DEFAULT_DESCRIPTION, "description.equals=" + UPDATED_DESCRIPTION);
+    }
+
+    @Test
+    @Transactional
+    void getAllMaintenancesByMotorbikeIsEqualToSomething() throws Exception {
+        Motorbike motorbike = MotorbikeResourceIT.createEntity(em);
+        em.persist(motorbike);
+        em.flush();
+        maintenance.setMotorbike(motorbike);
+        maintenanceRepository.saveAndFlush(maintenance);
+        Long motorbikeId = motorbike.getId();
+        // Get all the maintenanceList where motorbike equals to motorbikeId
+        defaultMaintenanceShouldBeFound("motorbikeId.equals=" + motorbikeId);
+
+        // Get all the maintenanceList where motorbike equals to (motorbikeId + 1)
+        defaultMaintenanceShouldNotBeFound("motorbikeId.equals=" + (motorbikeId + 1));
+    }
+
+    private void defaultMaintenanceFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultMaintenanceShouldBeFound(shouldBeFound);
+        defaultMaintenanceShouldNotBeFound(shouldNotBeFound);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultMaintenanceShouldBeFound(String filter) throws Exception {
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(maintenance.getId().intValue())));
+
+        // Check, that the count call also returns 1
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultMaintenanceShouldNotBeFound(String filter) throws Exception {
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restMaintenanceMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingMaintenance() throws Exception {
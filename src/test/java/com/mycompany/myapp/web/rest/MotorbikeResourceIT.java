@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Maintenance;
 import com.mycompany.myapp.domain.Motorbike;
 import com.mycompany.myapp.domain.enumeration.BikeStatus;
 import com.mycompany.myapp.repository.MotorbikeRepository;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -207,6 +209,130 @@ class MotorbikeResourceIT {
             .andExpect(jsonPath("$.status").value(DEFAULT_STATUS.toString()));
     }
 
+    @Test
+    @Transactional
+    void getMotorbikeWithView() throws Exception {
+        // Initialize the database
+        motorbikeRepository.saveAndFlush(motorbike);
+        Maintenance maintenance = MaintenanceResourceIT.createEntity(em).motorbike(motorbike);
+        em.persist(maintenance);
+        em.flush();
+        em.clear();
+
+        // Get the motorbike with its maintenances
+        restMotorbikeMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?view=full", motorbike.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.maintenances.[*].id").value(hasItem(maintenance.getId().intValue())));
+        em.clear();
+
+        // Get the motorbike without its associations
+        restMotorbikeMockMvc
+            .perform(get(ENTITY_API_URL_ID, motorbike.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(motorbike.getId().intValue()))
+            .andExpect(jsonPath("$.maintenances").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getMotorbikeWithInvalidView() throws Exception {
+        // Initialize the database
+        motorbikeRepository.saveAndFlush(motorbike);
+
+        restMotorbikeMockMvc.perform(get(ENTITY_API_URL_ID + "?view=everything", motorbike.getId())).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllMotorbikesIsPaginated() throws Exception {
+        // Initialize the database
+        motorbikeRepository.saveAndFlush(motorbike);
+        motorbikeRepository.saveAndFlush(createEntity(em));
+
+        restMotorbikeMockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(header().exists(HttpHeaders.LINK))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @Transactional
+    void getAllMotorbikesByMakeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        motorbikeRepository.saveAndFlush(motorbike);
+
+        // Get all the motorbikeList where make equals to
+        defaultMotorbikeFiltering("make.equals=" + DEFAULT_MAKE, "make.equals=" + UPDATED_MAKE);
+    }
+
+    @Test
+    @Transactional
+    void getAllMotorbikesByMakeContainsSomething() throws Exception {
+        // Initialize the database
+        motorbikeRepository.saveAndFlush(motorbike);
+
+        // Get all the motorbikeList where make contains
+        defaultMotorbikeFiltering("make.contains=" + DEFAULT_MAKE, "make.contains=" + UPDATED_MAKE);
+    }
+
+    @Test
+    @Transactional
+    void getAllMotorbikesByStatusIsEqualToSomething() throws Exception {
+        // Initialize the database
+        motorbikeRepository.saveAndFlush(motorbike);
+
+        // Get all the motorbikeList where make and status equal to
+        defaultMotorbikeFiltering(
+            "make.equals=" + DEFAULT_MAKE + "&status.equals=" + DEFAULT_STATUS,
+            "make.equals=" + DEFAULT_MAKE + "&status.equals=" + UPDATED_STATUS
+        );
+    }
+
+    private void defaultMotorbikeFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultMotorbikeShouldBeFound(shouldBeFound);
+        defaultMotorbikeShouldNotBeFound(shouldNotBeFound);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultMotorbikeShouldBeFound(String filter) throws Exception {
+        restMotorbikeMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(motorbike.getId().intValue())));
+
+        // Check, that the count call also returns 1
+        restMotorbikeMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultMotorbikeShouldNotBeFound(String filter) throws Exception {
+        restMotorbikeMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restMotorbikeMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingMotorbike() throws Exception {
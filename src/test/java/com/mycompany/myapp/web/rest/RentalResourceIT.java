@@ -7,13 +7,22 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Customer;
+import com.mycompany.myapp.domain.Motorbike;
 import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import com.mycompany.myapp.repository.CustomerRepository;
+import com.mycompany.myapp.repository.MotorbikeRepository;
 import com.mycompany.myapp.repository.RentalRepository;
+import com.mycompany.myapp.service.RentalService;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +32,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -54,6 +64,15 @@ class RentalResourceIT {
     @Autowired
     private RentalRepository rentalRepository;
 
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MotorbikeRepository motorbikeRepository;
+
+    @Autowired
+    private RentalService rentalService;
+
     @Autowired
     private EntityManager em;
 
@@ -192,6 +211,185 @@ class RentalResourceIT {
             .andExpect(jsonPath("$.returnDate").value(DEFAULT_RETURN_DATE.toString()));
     }
 
+    @Test
+    @Transactional
+    void getAllRentalsByStartDateIsLessThanSomething() throws Exception {
+        // Initialize the database
+        rentalRepository.saveAndFlush(rental);
+
+        // Get all the rentalList where startDate is less than
+        defaultRentalFiltering("startDate.lessThan=" + UPDATED_START_DATE, "startDate.lessThan=" + DEFAULT_START_DATE);
+    }
+
+    @Test
+    @Transactional
+    void getAllRentalsByCustomerIsEqualToSomething() throws Exception {
+        Customer customer = CustomerResourceIT.createEntity(em);
+        em.persist(customer);
+        em.flush();
+        rental.setCustomer(customer);
+        rentalRepository.saveAndFlush(rental);
+        Long customerId = customer.getId();
+        // Get all the rentalList where customer equals to customerId
+        defaultRentalShouldBeFound("customerId.equals=" + customerId);
+
+        // Get all the rentalList where customer equals to (customerId + 1)
+        defaultRentalShouldNotBeFound("customerId.equals=" + (customerId + 1));
+    }
+
+    private void defaultRentalFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultRentalShouldBeFound(shouldBeFound);
+        defaultRentalShouldNotBeFound(shouldNotBeFound);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultRentalShouldBeFound(String filter) throws Exception {
+        restRentalMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(rental.getId().intValue())));
+
+        // Check, that the count call also returns 1
+        restRentalMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultRentalShouldNotBeFound(String filter) throws Exception {
+        restRentalMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restRentalMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
+    @Test
+    @Transactional
+    void getRentalsByCursor() throws Exception {
+        // Initialize the database with rentals sharing a start date, so that the id breaks the tie
+        List<Long> expected = new ArrayList<>();
+        for (LocalDate startDate : List.of(DEFAULT_START_DATE.plusDays(1), DEFAULT_START_DATE, DEFAULT_START_DATE)) {
+            expected.add(rentalRepository.saveAndFlush(createEntity(em).startDate(startDate)).getId());
+        }
+        expected.add(expected.remove(0));
+
+        // Walk all the pages
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MvcResult result = restRentalMockMvc
+                .perform(get(ENTITY_API_URL + "/cursor?size=2" + (cursor == null ? "" : "&after=" + cursor)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andReturn();
+            for (Rental rental : om.readValue(result.getResponse().getContentAsString(), Rental[].class)) {
+                ids.add(rental.getId());
+            }
+            cursor = result.getResponse().getHeader("X-Next-Cursor");
+        } while (cursor != null);
+
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids.stream().filter(expected::contains).toList()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @Transactional
+    void getRentalsByInvalidCursor() throws Exception {
+        restRentalMockMvc.perform(get(ENTITY_API_URL + "/cursor?after=not-a-cursor")).andExpect(status().isBadRequest());
+        restRentalMockMvc.perform(get(ENTITY_API_URL + "/cursor?size=0")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportRentals() throws Exception {
+        // The export runs on another thread, in its own transaction, so the rentals are committed here
+        Customer customer = customerRepository.saveAndFlush(CustomerResourceIT.createEntity(em));
+        List<Rental> rentals = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rentals.add(rentalRepository.saveAndFlush(createEntity(em).customer(customer)));
+        }
+        try {
+            MvcResult result = restRentalMockMvc.perform(get(ENTITY_API_URL + "/export")).andExpect(request().asyncStarted()).andReturn();
+            String body = restRentalMockMvc
+                .perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+            List<JsonNode> lines = new ArrayList<>();
+            for (String line : body.split("\n")) {
+                lines.add(om.readTree(line));
+            }
+            for (Rental rental : rentals) {
+                assertThat(lines)
+                    .filteredOn(line -> line.get("id").asLong() == rental.getId())
+                    .singleElement()
+                    .satisfies(line -> {
+                        assertThat(line.get("startDate").asText()).isEqualTo(DEFAULT_START_DATE.toString());
+                        assertThat(line.get("customerId").asLong()).isEqualTo(customer.getId());
+                        assertThat(line.get("motorbikeId").isNull()).isTrue();
+                    });
+            }
+        } finally {
+            rentalRepository.deleteAll(rentals);
+            customerRepository.delete(customer);
+        }
+    }
+
+    @Test
+    void createOverlappingRentalIsRejected() throws Exception {
+        // The availability index is only updated once the rentals are committed, so this test is not transactional
+        Motorbike motorbike = motorbikeRepository.saveAndFlush(new Motorbike().make("Make").model("Model").status(BikeStatus.AVAILABLE));
+        LocalDate start = LocalDate.of(2032, 1, 1);
+        Rental booked = om.readValue(
+            restRentalMockMvc
+                .perform(
+                    post(ENTITY_API_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsBytes(new Rental().startDate(start).dueDate(start.plusDays(3)).motorbike(motorbike)))
+                )
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            Rental.class
+        );
+        try {
+            Rental overlapping = new Rental().startDate(start.plusDays(2)).dueDate(start.plusDays(5)).motorbike(motorbike);
+            restRentalMockMvc
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(overlapping)))
+                .andExpect(status().isConflict());
+
+            // The rental does not overlap with its own previous period
+            booked.motorbike(motorbike).dueDate(start.plusDays(4));
+            restRentalMockMvc
+                .perform(
+                    put(ENTITY_API_URL_ID, booked.getId()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(booked))
+                )
+                .andExpect(status().isOk());
+        } finally {
+            rentalService.delete(booked.getId());
+            motorbikeRepository.delete(motorbike);
+        }
+    }
+
     @Test
     @Transactional
     void getNonExistingRental() throws Exception {
@@ -0,0 +1,96 @@
+package com.mycompany.myapp.web.rest.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Customer;
+import com.mycompany.myapp.service.CustomerService;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link CustomerController} authentication.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@Transactional
+class CustomerControllerIT {
+
+    private static final String DEFAULT_EMAIL = "customer@localhost";
+
+    private static final String DEFAULT_PASSWORD = "correct horse battery staple";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private MockMvc restCustomerMockMvc;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @SpyBean(name = CustomerService.PASSWORD_HASHING_EXECUTOR)
+    private Executor passwordHashingExecutor;
+
+    @BeforeEach
+    public void init() {
+        customerService.save(new Customer().firstName("john").lastName("doe").email(DEFAULT_EMAIL).password(DEFAULT_PASSWORD));
+    }
+
+    @Test
+    void authenticate() throws Exception {
+        authenticate(DEFAULT_EMAIL, DEFAULT_PASSWORD).andExpect(status().isOk()).andExpect(content().string("Authentication successful"));
+    }
+
+    @Test
+    void authenticateWithBadCredentials() throws Exception {
+        authenticate(DEFAULT_EMAIL, "wrong").andExpect(status().isUnauthorized()).andExpect(content().string("Authentication failed"));
+    }
+
+    @Test
+    void authenticateWithUnknownEmail() throws Exception {
+        authenticate("unknown@localhost", DEFAULT_PASSWORD)
+            .andExpect(status().isUnauthorized())
+            .andExpect(content().string("User not found"));
+    }
+
+    @Test
+    void authenticateWhenVerificationsAreRejected() throws Exception {
+        doThrow(new TaskRejectedException("Queue full")).when(passwordHashingExecutor).execute(any(Runnable.class));
+
+        restCustomerMockMvc
+            .perform(post("/api/v1/auth").contentType(MediaType.APPLICATION_JSON).content(credentials(DEFAULT_EMAIL, DEFAULT_PASSWORD)))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    private ResultActions authenticate(String email, String password) throws Exception {
+        MvcResult result = restCustomerMockMvc
+            .perform(post("/api/v1/auth").contentType(MediaType.APPLICATION_JSON).content(credentials(email, password)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return restCustomerMockMvc.perform(asyncDispatch(result));
+    }
+
+    private byte[] credentials(String email, String password) throws Exception {
+        return om.writeValueAsBytes(Map.of("username", email, "password", password));
+    }
+}
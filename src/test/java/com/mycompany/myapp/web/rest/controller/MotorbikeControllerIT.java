@@ -0,0 +1,102 @@
+package com.mycompany.myapp.web.rest.controller;
+
+import static com.mycompany.myapp.management.QueryCountAssertions.assertMaxStatementCount;
+import static com.mycompany.myapp.management.QueryCountAssertions.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import com.mycompany.myapp.service.MotorbikeService;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the conditional requests of the {@link MotorbikeController} list, and for its statements.
+ * <p>
+ * Not transactional: the ETags only change once the changes are committed.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class MotorbikeControllerIT {
+
+    @Autowired
+    private MockMvc restMotorbikeMockMvc;
+
+    @Autowired
+    private MotorbikeService motorbikeService;
+
+    private final List<Long> motorbikeIds = new ArrayList<>();
+
+    @AfterEach
+    public void cleanup() {
+        motorbikeIds.forEach(motorbikeService::delete);
+    }
+
+    @Test
+    void listIsNotModifiedUntilAMotorbikeChanges() throws Exception {
+        String etag = restMotorbikeMockMvc
+            .perform(get("/api/v1/motorbikes"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5, must-revalidate, private"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"");
+
+        restMotorbikeMockMvc
+            .perform(get("/api/v1/motorbikes").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5, must-revalidate, private"))
+            .andExpect(content().string(""));
+
+        motorbikeIds.add(motorbikeService.save(new Motorbike().make("Make").model("Model").status(BikeStatus.AVAILABLE)).getId());
+
+        String newEtag = restMotorbikeMockMvc
+            .perform(get("/api/v1/motorbikes").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    void rentalsFilterDependsOnRentals() throws Exception {
+        String motorbikesEtag = restMotorbikeMockMvc
+            .perform(get("/api/v1/motorbikes"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        String filteredEtag = restMotorbikeMockMvc
+            .perform(get("/api/v1/motorbikes").param("rentalsId.equals", "1"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        assertThat(filteredEtag).isNotEqualTo(motorbikesEtag);
+    }
+
+    @Test
+    void listStatementsDoNotGrowWithTheMotorbikes() throws Exception {
+        long statements = countStatements(() -> restMotorbikeMockMvc.perform(get("/api/v1/motorbikes")).andExpect(status().isOk()));
+        for (int i = 0; i < 3; i++) {
+            motorbikeIds.add(motorbikeService.save(new Motorbike().make("Make").model("Model " + i).status(BikeStatus.AVAILABLE)).getId());
+        }
+
+        assertMaxStatementCount(statements, () -> restMotorbikeMockMvc.perform(get("/api/v1/motorbikes")).andExpect(status().isOk()));
+    }
+}
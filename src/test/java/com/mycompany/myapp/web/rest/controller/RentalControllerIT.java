@@ -0,0 +1,224 @@
+package com.mycompany.myapp.web.rest.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Customer;
+import com.mycompany.myapp.domain.Motorbike;
+import com.mycompany.myapp.domain.Rental;
+import com.mycompany.myapp.domain.enumeration.BikeStatus;
+import com.mycompany.myapp.repository.CustomerRepository;
+import com.mycompany.myapp.repository.MotorbikeRepository;
+import com.mycompany.myapp.repository.RentalRepository;
+import com.mycompany.myapp.service.MotorbikeService;
+import com.mycompany.myapp.service.RentalService;
+import com.mycompany.myapp.service.dto.PriceQuoteDTO;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the {@link RentalController} reservation and pricing paths.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class RentalControllerIT {
+
+    private static final int MOTORBIKES = 4;
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 2_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private MockMvc restRentalMockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MotorbikeRepository motorbikeRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private MotorbikeService motorbikeService;
+
+    private Customer customer;
+
+    private final List<Motorbike> motorbikes = new ArrayList<>();
+
+    @BeforeEach
+    public void initTest() {
+        customer = customerRepository.saveAndFlush(
+            new Customer().firstName("Stress").lastName("Test").email("stress@localhost").password("stress")
+        );
+        for (int i = 0; i < MOTORBIKES; i++) {
+            motorbikes.add(motorbikeService.save(new Motorbike().make("Make").model("Model " + i).status(BikeStatus.AVAILABLE)));
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        List<Long> motorbikeIds = motorbikes.stream().map(Motorbike::getId).toList();
+        rentalRepository
+            .findAll()
+            .stream()
+            .filter(rental -> rental.getMotorbike() != null && motorbikeIds.contains(rental.getMotorbike().getId()))
+            .forEach(rental -> rentalService.delete(rental.getId()));
+        motorbikeIds.forEach(motorbikeService::delete);
+        customerRepository.deleteById(customer.getId());
+    }
+
+    @Test
+    @Timeout(value = 2, unit = TimeUnit.MINUTES)
+    void concurrentReservationsNeverOverlap() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Map<Integer, Integer> unexpected = new ConcurrentHashMap<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(
+                    executor.submit(() -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        Motorbike motorbike = motorbikes.get(random.nextInt(MOTORBIKES));
+                        LocalDate startDate = FIRST_DAY.plusDays(random.nextInt(120));
+                        LocalDate dueDate = startDate.plusDays(1 + random.nextInt(6));
+                        int status = restRentalMockMvc
+                            .perform(
+                                post("/api/v1/rentals")
+                                    .with(user("stress"))
+                                    .param("customerId", customer.getId().toString())
+                                    .param("motorbikeId", motorbike.getId().toString())
+                                    .param("startDate", startDate.toString())
+                                    .param("dueDate", dueDate.toString())
+                            )
+                            .andReturn()
+                            .getResponse()
+                            .getStatus();
+                        if (status == 201) {
+                            created.incrementAndGet();
+                        } else if (status == 409) {
+                            rejected.incrementAndGet();
+                        } else {
+                            unexpected.merge(status, 1, Integer::sum);
+                        }
+                        return null;
+                    })
+                );
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(unexpected).isEmpty();
+        assertThat(created.get() + rejected.get()).isEqualTo(REQUESTS);
+        assertThat(created.get()).isPositive();
+        assertThat(rejected.get()).isPositive();
+
+        List<Long> motorbikeIds = motorbikes.stream().map(Motorbike::getId).toList();
+        Map<Long, List<Rental>> rentalsByMotorbike = rentalRepository
+            .findAll()
+            .stream()
+            .filter(rental -> rental.getMotorbike() != null && motorbikeIds.contains(rental.getMotorbike().getId()))
+            .collect(Collectors.groupingBy(rental -> rental.getMotorbike().getId()));
+        assertThat(rentalsByMotorbike.values().stream().mapToInt(List::size).sum()).isEqualTo(created.get());
+
+        for (List<Rental> rentals : rentalsByMotorbike.values()) {
+            rentals.sort(Comparator.comparing(Rental::getStartDate));
+            for (int i = 1; i < rentals.size(); i++) {
+                Rental previous = rentals.get(i - 1);
+                Rental next = rentals.get(i);
+                assertThat(next.getStartDate()).as("rental %s overlaps rental %s", next.getId(), previous.getId()).isAfterOrEqualTo(
+                    previous.getDueDate()
+                );
+            }
+        }
+    }
+
+    @Test
+    void priceOfATooLongRentalIsRejected() throws Exception {
+        Rental rental = new Rental().startDate(LocalDate.of(1, 1, 1)).dueDate(LocalDate.of(9999, 12, 31));
+
+        restRentalMockMvc
+            .perform(post("/api/v1/rentals/price").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(rental)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void priceBatchKeepsOrderAndReportsErrorsPerQuote() throws Exception {
+        // 2030-01-07 is a Monday
+        LocalDate monday = FIRST_DAY.plusDays(6);
+        Long motorbikeId = motorbikes.get(0).getId();
+        List<PriceQuoteDTO> quotes = List.of(
+            new PriceQuoteDTO(motorbikeId, monday, monday.plusDays(7), null),
+            new PriceQuoteDTO(motorbikeId, monday, monday.plusDays(2), "weekendPricing"),
+            new PriceQuoteDTO(motorbikeId, monday, monday, null),
+            new PriceQuoteDTO(Long.MAX_VALUE, monday, monday.plusDays(1), null),
+            new PriceQuoteDTO(motorbikeId, monday, monday.plusDays(1), "unknownPricing"),
+            new PriceQuoteDTO(motorbikeId, LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31), null)
+        );
+
+        MvcResult result = restRentalMockMvc
+            .perform(
+                post("/api/v1/rentals/price/batch")
+                    .with(user("quote"))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(quotes))
+            )
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restRentalMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(quotes.size()))
+            .andExpect(jsonPath("$[0].index").value(0))
+            .andExpect(jsonPath("$[0].price").value(150.0))
+            .andExpect(jsonPath("$[0].strategy").value("calendarPricing"))
+            .andExpect(jsonPath("$[1].price").value(50.0))
+            .andExpect(jsonPath("$[1].strategy").value("weekendPricing"))
+            .andExpect(jsonPath("$[2].error").value("due must be after start"))
+            .andExpect(jsonPath("$[3].error").value("unknown motorbike " + Long.MAX_VALUE))
+            .andExpect(jsonPath("$[4].index").value(4))
+            .andExpect(jsonPath("$[4].error").value("unknown strategy unknownPricing"))
+            .andExpect(jsonPath("$[5].error").value("a rental lasts at most 366 days"));
+    }
+}